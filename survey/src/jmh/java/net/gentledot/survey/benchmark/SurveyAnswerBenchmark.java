@@ -0,0 +1,80 @@
+package net.gentledot.survey.benchmark;
+
+import net.gentledot.survey.application.service.in.model.response.SurveyAnswerValue;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswer;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerSubmission;
+import net.gentledot.survey.domain.surveyanswer.SurveyQuestionSnapshot;
+import net.gentledot.survey.domain.surveyanswer.dto.SubmitSurveyAnswerDto;
+import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 응답 제출/조회 시 도메인 객체 생성 비용
+ * - SurveyAnswer.of : 제출 응답을 엔티티로 변환 (선택 항목 비트 인코딩 포함)
+ * - SurveyQuestionSnapshot.from : 질문 revision 발행 시 질문 항목 복사
+ * - SurveyAnswerValue.of : 조회 응답 변환 (선택 항목 복원, 필터링)
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SurveyAnswerBenchmark {
+
+    @Param({"1", "10"})
+    public int questionCount;
+
+    @Param({"4", "63"})
+    public int optionCount;
+
+    @Param({"1", "8"})
+    public int answerSize;
+
+    private SurveyDefinition definition;
+    private List<SubmitSurveyAnswerDto> answerDtos;
+    private SurveyQuestion question;
+    private List<SurveyAnswerSubmission> submissions;
+
+    @Setup
+    public void setUp() {
+        definition = SurveyBenchmarkFixtures.definition(questionCount, optionCount);
+        answerDtos = SurveyBenchmarkFixtures.answerDtos(SurveyBenchmarkFixtures.answers(definition, answerSize));
+        question = SurveyBenchmarkFixtures.surveyQuestion(0, optionCount);
+        submissions = SurveyBenchmarkFixtures.submissions(definition, optionCount, answerSize);
+    }
+
+    @Benchmark
+    public SurveyAnswer surveyAnswerOf() {
+        return SurveyAnswer.of(null, definition, answerDtos);
+    }
+
+    @Benchmark
+    public SurveyQuestionSnapshot surveyQuestionSnapshotFrom() {
+        return SurveyQuestionSnapshot.from(question);
+    }
+
+    @Benchmark
+    public SurveyAnswerValue surveyAnswerValueOf() {
+        return SurveyAnswerValue.of(1L, submissions);
+    }
+
+    @Benchmark
+    public SurveyAnswerValue surveyAnswerValueOfWithFilter() {
+        return SurveyAnswerValue.of(1L, submissions, "Question 0", "Option 0");
+    }
+}
@@ -0,0 +1,124 @@
+package net.gentledot.survey.benchmark;
+
+import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.in.model.request.SurveyCreateRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyQuestionOptionRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyQuestionRequest;
+import net.gentledot.survey.domain.enums.ItemRequired;
+import net.gentledot.survey.domain.enums.SurveyItemType;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswer;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerSubmission;
+import net.gentledot.survey.domain.surveyanswer.dto.SubmitSurveyAnswerDto;
+import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
+import net.gentledot.survey.domain.surveybase.SurveyQuestionRevision;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.definition.SurveyQuestionDefinition;
+import net.gentledot.survey.domain.surveybase.dto.SurveyQuestionOptionDto;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+ * 벤치마크용 서베이/응답 데이터 생성.
+ * 질문 유형은 MULTI_SELECT, SINGLE_SELECT, TEXT 순서로 반복하고,
+ * answerSize 는 다중 선택 항목에서 선택하는 옵션 수와 텍스트 응답 단어 수로 사용한다.
+ * */
+final class SurveyBenchmarkFixtures {
+    private static final SurveyItemType[] QUESTION_TYPES = {SurveyItemType.MULTI_SELECT, SurveyItemType.SINGLE_SELECT, SurveyItemType.TEXT};
+
+    private SurveyBenchmarkFixtures() {
+    }
+
+    static SurveyItemType typeOf(int questionIndex) {
+        return QUESTION_TYPES[questionIndex % QUESTION_TYPES.length];
+    }
+
+    static List<String> optionTexts(int optionCount) {
+        List<String> options = new ArrayList<>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add("Option " + i);
+        }
+        return options;
+    }
+
+    static SurveyQuestion surveyQuestion(int questionIndex, int optionCount) {
+        SurveyItemType type = typeOf(questionIndex);
+        List<SurveyQuestionOption> options = type == SurveyItemType.TEXT ? new ArrayList<>() : optionTexts(optionCount).stream()
+                .map(option -> SurveyQuestionOption.from(new SurveyQuestionOptionDto(option)))
+                .collect(Collectors.toList());
+        return SurveyQuestion.of("Question " + questionIndex, "Description " + questionIndex, type, ItemRequired.REQUIRED, options);
+    }
+
+    static SurveyDefinition definition(int questionCount, int optionCount) {
+        List<SurveyQuestionDefinition> questions = new ArrayList<>(questionCount);
+        for (int i = 0; i < questionCount; i++) {
+            SurveyItemType type = typeOf(i);
+            List<String> options = type == SurveyItemType.TEXT ? List.of() : optionTexts(optionCount);
+            questions.add(new SurveyQuestionDefinition((long) i + 1, (long) i + 1, "Question " + i, "Description " + i, type, ItemRequired.REQUIRED, options));
+        }
+        return new SurveyDefinition("benchmark-survey", 0L, questions);
+    }
+
+    static List<SubmitSurveyAnswer> answers(SurveyDefinition definition, int answerSize) {
+        List<SubmitSurveyAnswer> answers = new ArrayList<>(definition.getQuestionCount());
+        for (SurveyQuestionDefinition question : definition.getQuestions()) {
+            List<String> values = switch (question.getItemType()) {
+                case MULTI_SELECT -> question.getOptions().subList(0, Math.min(answerSize, question.getOptions().size()));
+                case SINGLE_SELECT -> List.of(question.getOptions().getLast());
+                default -> List.of(String.join(" ", Collections.nCopies(answerSize, "answer")));
+            };
+            answers.add(new SubmitSurveyAnswer(question.getId(), values));
+        }
+        return answers;
+    }
+
+    static List<SubmitSurveyAnswerDto> answerDtos(List<SubmitSurveyAnswer> answers) {
+        return answers.stream()
+                .map(SubmitSurveyAnswerDto::from)
+                .collect(Collectors.toList());
+    }
+
+    static SurveyCreateRequest createRequest(int questionCount, int optionCount) {
+        List<SurveyQuestionRequest> questions = new ArrayList<>(questionCount);
+        for (int i = 0; i < questionCount; i++) {
+            SurveyItemType type = typeOf(i);
+            List<SurveyQuestionOptionRequest> options = type == SurveyItemType.TEXT ? null : optionTexts(optionCount).stream()
+                    .map(SurveyQuestionOptionRequest::new)
+                    .collect(Collectors.toList());
+            questions.add(SurveyQuestionRequest.builder()
+                    .question("Question " + i)
+                    .description("Description " + i)
+                    .type(type)
+                    .required(ItemRequired.REQUIRED)
+                    .options(options)
+                    .build());
+        }
+        return new SurveyCreateRequest("Benchmark", "Benchmark survey", questions);
+    }
+
+    /*
+     * 조회 시점처럼 질문 revision 이 연결된 응답 항목을 만든다. (DB 없이 연관 필드를 직접 설정)
+     * */
+    static List<SurveyAnswerSubmission> submissions(SurveyDefinition definition, int optionCount, int answerSize) {
+        SurveyAnswer surveyAnswer = SurveyAnswer.of(null, definition, answerDtos(answers(definition, answerSize)));
+        List<SurveyAnswerSubmission> submissions = surveyAnswer.getAnswers();
+        for (int i = 0; i < submissions.size(); i++) {
+            setQuestionRevision(submissions.get(i), SurveyQuestionRevision.from(surveyQuestion(i, optionCount), null));
+        }
+        return submissions;
+    }
+
+    private static void setQuestionRevision(SurveyAnswerSubmission submission, SurveyQuestionRevision revision) {
+        try {
+            Field field = SurveyAnswerSubmission.class.getDeclaredField("questionRevision");
+            field.setAccessible(true);
+            field.set(submission, revision);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
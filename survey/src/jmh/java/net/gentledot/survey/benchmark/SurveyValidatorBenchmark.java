@@ -0,0 +1,64 @@
+package net.gentledot.survey.benchmark;
+
+import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.in.model.request.SurveyCreateRequest;
+import net.gentledot.survey.application.service.util.SurveyValidator;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 요청마다 실행되는 SurveyValidator 검증 비용 (응답 제출, 서베이 생성/수정 요청)
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SurveyValidatorBenchmark {
+
+    @Param({"1", "10", "1000"})
+    public int questionCount;
+
+    @Param({"4", "63"})
+    public int optionCount;
+
+    @Param({"1", "8"})
+    public int answerSize;
+
+    private SurveyDefinition definition;
+    private List<SubmitSurveyAnswer> answers;
+    private SurveyCreateRequest createRequest;
+
+    @Setup
+    public void setUp() {
+        definition = SurveyBenchmarkFixtures.definition(questionCount, optionCount);
+        answers = SurveyBenchmarkFixtures.answers(definition, answerSize);
+        createRequest = SurveyBenchmarkFixtures.createRequest(questionCount, optionCount);
+    }
+
+    @Benchmark
+    public SurveyDefinition validateSurveyAnswers() {
+        SurveyValidator.validateSurveyAnswers(definition, answers);
+        return definition;
+    }
+
+    @Benchmark
+    public SurveyCreateRequest validateRequest() {
+        SurveyValidator.validateRequest(createRequest);
+        return createRequest;
+    }
+}
@@ -0,0 +1,91 @@
+package net.gentledot.survey.loadtest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * 질문 수에 따른 서베이 수정/응답 제출 지연 시간 비교.
+ * 질문 수만 다른 서베이를 만들고 수정(질문 1개 MODIFY)과 응답 제출(모든 질문 응답)을 같은 부하로 실행한다.
+ * 응답 제출은 모든 질문에 응답해야 하고 수정은 서베이 전체를 읽어 응답하므로 요청 처리 비용 자체는 질문 수에 비례한다.
+ * 질문 조회가 ID 로 색인되어 있으면 질문 1개당 지연 시간(p50 / 질문 수)은 질문 수가 늘어도 증가하지 않아야 한다.
+ *
+ * ./gradlew loadTest --tests '*LargeSurveyLoadTest' -Dloadtest.large-survey.question-counts=10,100,1000
+ * */
+class LargeSurveyLoadTest {
+    private static final List<Integer> QUESTION_COUNTS = questionCounts(System.getProperty("loadtest.large-survey.question-counts", "10,100,1000"));
+    private static final int SUBMIT_REQUESTS = Integer.getInteger("loadtest.large-survey.submit-requests", 200);
+    private static final int UPDATE_REQUESTS = Integer.getInteger("loadtest.large-survey.update-requests", 200);
+    private static final int WARM_UP_REQUESTS = Integer.getInteger("loadtest.warm-up-requests", 50);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 4);
+    // 가장 작은 서베이 대비 질문 1개당 p50 지연 시간 배율 상한
+    private static final double MAX_PER_QUESTION_RATIO = Double.parseDouble(System.getProperty("loadtest.large-survey.max-per-question-ratio", "1.0"));
+
+    @DisplayName("질문 수가 1,000개까지 늘어나도 수정/응답 제출의 질문 1개당 지연 시간은 증가하지 않는다.")
+    @Test
+    void latencyPerQuestionStaysFlatUpToLargeQuestionCounts() throws Exception {
+        Map<Integer, LoadReport> updateReports = new LinkedHashMap<>();
+        Map<Integer, LoadReport> submitReports = new LinkedHashMap<>();
+        int maximumQuestionCount = QUESTION_COUNTS.getLast();
+
+        try (LocalSurveyApplication application = LocalSurveyApplication.start("large-survey", new String[0],
+                "survey.question.maximum-count=" + maximumQuestionCount);
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            SurveyLoadClient client = new SurveyLoadClient(application.baseUrl(), application.objectMapper(), clientExecutor);
+
+            for (int questionCount : QUESTION_COUNTS) {
+                SurveyLoadClient.LargeSurvey survey = client.createLargeSurvey(questionCount);
+                Assertions.assertThat(survey.questionIds()).hasSize(questionCount);
+
+                // 수정은 서베이 정의 캐시를 비우므로 응답 제출과 섞지 않고 따로 측정
+                List<LoadDriver.WeightedOperation> update = List.of(new LoadDriver.WeightedOperation("update", 1, 200,
+                        sequence -> client.updateLargeSurveyQuestion(survey, sequence)));
+                List<LoadDriver.WeightedOperation> submit = List.of(new LoadDriver.WeightedOperation("submit", 1, 200,
+                        sequence -> client.submitLargeSurveyAnswer(survey, sequence)));
+
+                LoadDriver.run(clientExecutor, CONCURRENCY, WARM_UP_REQUESTS, update);
+                updateReports.put(questionCount, LoadDriver.run(clientExecutor, CONCURRENCY, UPDATE_REQUESTS, update));
+                LoadDriver.run(clientExecutor, CONCURRENCY, WARM_UP_REQUESTS, submit);
+                submitReports.put(questionCount, LoadDriver.run(clientExecutor, CONCURRENCY, SUBMIT_REQUESTS, submit));
+            }
+        }
+
+        for (int questionCount : QUESTION_COUNTS) {
+            System.out.println(updateReports.get(questionCount).format("서베이 수정 [질문 " + questionCount + "개]"));
+            System.out.println(submitReports.get(questionCount).format("응답 제출 [질문 " + questionCount + "개]"));
+        }
+
+        assertPerQuestionLatency("update", updateReports);
+        assertPerQuestionLatency("submit", submitReports);
+    }
+
+    private static void assertPerQuestionLatency(String operationName, Map<Integer, LoadReport> reports) {
+        int baseQuestionCount = QUESTION_COUNTS.getFirst();
+        double basePerQuestion = reports.get(baseQuestionCount).operation(operationName).percentileMillis(50) / baseQuestionCount;
+        for (int questionCount : QUESTION_COUNTS) {
+            LoadReport.OperationResult result = reports.get(questionCount).operation(operationName);
+            double perQuestion = result.percentileMillis(50) / questionCount;
+            System.out.printf("%s [질문 %d개] p50 / 질문 수 = %.4f ms%n", operationName, questionCount, perQuestion);
+
+            Assertions.assertThat(result.failed()).isZero();
+            Assertions.assertThat(perQuestion)
+                    .as("질문 %d개 서베이 %s 의 질문 1개당 p50 지연 시간", questionCount, operationName)
+                    .isLessThanOrEqualTo(basePerQuestion * MAX_PER_QUESTION_RATIO);
+        }
+    }
+
+    private static List<Integer> questionCounts(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .sorted()
+                .toList();
+    }
+}
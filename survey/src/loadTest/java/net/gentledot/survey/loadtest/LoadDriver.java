@@ -0,0 +1,86 @@
+package net.gentledot.survey.loadtest;
+
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 요청 구성(mix)에 따라 동시 요청을 보내고 API 별 지연 시간을 HdrHistogram 으로 기록한다.
+ * 요청 순번으로 API 를 고르므로 실행마다 같은 비율의 요청이 같은 순서로 발생한다.
+ * */
+final class LoadDriver {
+    // 1us ~ 1분, 유효 숫자 3자리
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private LoadDriver() {
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        // HTTP 상태 코드를 반환
+        int execute(int sequence) throws IOException;
+    }
+
+    record WeightedOperation(String name, int weight, int expectedStatus, Operation operation) {
+    }
+
+    static LoadReport run(ExecutorService executor, int concurrency, int requestCount, List<WeightedOperation> mix) throws Exception {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        Map<String, LongAdder> failures = new LinkedHashMap<>();
+        List<WeightedOperation> schedule = new ArrayList<>();
+        for (WeightedOperation operation : mix) {
+            recorders.put(operation.name(), new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            failures.put(operation.name(), new LongAdder());
+            for (int i = 0; i < operation.weight(); i++) {
+                schedule.add(operation);
+            }
+        }
+
+        AtomicInteger nextRequest = new AtomicInteger();
+        long startedAt = System.nanoTime();
+        List<Future<?>> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(executor.submit(() -> {
+                int sequence;
+                while ((sequence = nextRequest.getAndIncrement()) < requestCount) {
+                    WeightedOperation operation = schedule.get(sequence % schedule.size());
+                    long sentAt = System.nanoTime();
+                    boolean succeeded;
+                    try {
+                        succeeded = operation.operation().execute(sequence) == operation.expectedStatus();
+                    } catch (IOException e) {
+                        succeeded = false;
+                    }
+                    long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt);
+                    recorders.get(operation.name()).recordValue(Math.min(Math.max(elapsedMicros, 1), HIGHEST_TRACKABLE_MICROS));
+                    if (!succeeded) {
+                        failures.get(operation.name()).increment();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        List<LoadReport.OperationResult> results = new ArrayList<>();
+        for (WeightedOperation operation : mix) {
+            results.add(new LoadReport.OperationResult(operation.name(),
+                    recorders.get(operation.name()).getIntervalHistogram(),
+                    failures.get(operation.name()).sum()));
+        }
+        return new LoadReport(concurrency, elapsedNanos, results);
+    }
+}
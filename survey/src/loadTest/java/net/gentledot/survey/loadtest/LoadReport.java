@@ -0,0 +1,64 @@
+package net.gentledot.survey.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+
+/*
+ * API 별 처리량/지연 시간 분포 (지연 시간 단위: us)
+ * */
+record LoadReport(int concurrency, long elapsedNanos, List<OperationResult> operations) {
+
+    record OperationResult(String name, Histogram histogram, long failed) {
+
+        long count() {
+            return histogram.getTotalCount();
+        }
+
+        double percentileMillis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000.0;
+        }
+
+        double maxMillis() {
+            return histogram.getMaxValue() / 1_000.0;
+        }
+
+        double errorRate() {
+            return count() == 0 ? 0 : (double) failed / count();
+        }
+    }
+
+    OperationResult operation(String name) {
+        return operations.stream()
+                .filter(operation -> operation.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("기록되지 않은 API: " + name));
+    }
+
+    long totalCount() {
+        return operations.stream().mapToLong(OperationResult::count).sum();
+    }
+
+    double throughput() {
+        return totalCount() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    double throughput(String name) {
+        return operation(name).count() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    String format(String title) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%n=== %s (concurrency=%d, requests=%d, %.1fs, %.1f req/s) ===%n",
+                title, concurrency, totalCount(), elapsedNanos / 1_000_000_000.0, throughput()));
+        report.append(String.format("%-10s %8s %10s %9s %9s %9s %10s %9s %7s%n",
+                "api", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "failed"));
+        for (OperationResult operation : operations) {
+            report.append(String.format("%-10s %8d %10.1f %9.2f %9.2f %9.2f %10.2f %9.2f %7d%n",
+                    operation.name(), operation.count(), throughput(operation.name()),
+                    operation.percentileMillis(50), operation.percentileMillis(90), operation.percentileMillis(99),
+                    operation.percentileMillis(99.9), operation.maxMillis(), operation.failed()));
+        }
+        return report.toString();
+    }
+}
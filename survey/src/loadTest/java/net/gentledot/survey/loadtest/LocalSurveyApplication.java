@@ -0,0 +1,55 @@
+package net.gentledot.survey.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.gentledot.survey.SurveyApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 부하 테스트 대상 애플리케이션을 임의 포트로 띄운다.
+ * 실행마다 별도의 H2 메모리 DB 를 사용하여 이전 실행의 데이터가 결과에 영향을 주지 않도록 한다.
+ * */
+final class LocalSurveyApplication implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+
+    private LocalSurveyApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static LocalSurveyApplication start(String name, String[] profiles, String... properties) {
+        List<String> applicationProperties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:loadtest-" + name,
+                "logging.level.root=WARN"));
+        applicationProperties.addAll(List.of(properties));
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SurveyApplication.class)
+                .properties(applicationProperties.toArray(String[]::new));
+        if (profiles.length > 0) {
+            builder.profiles(profiles);
+        }
+        return new LocalSurveyApplication(builder.run());
+    }
+
+    String baseUrl() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port + "/v1/survey";
+    }
+
+    ObjectMapper objectMapper() {
+        return context.getBean(ObjectMapper.class);
+    }
+
+    <T> T property(String key, Class<T> type, T defaultValue) {
+        return context.getEnvironment().getProperty(key, type, defaultValue);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
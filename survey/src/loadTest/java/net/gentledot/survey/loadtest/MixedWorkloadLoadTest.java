@@ -0,0 +1,72 @@
+package net.gentledot.survey.loadtest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * 서베이 생성, 응답 제출, 응답 검색(질문 이름/응답 값 필터)을 섞은 부하 테스트.
+ * 결과는 API 별 처리량과 지연 시간 분포로 출력하고, SLO 기준을 벗어나면 실패한다.
+ *
+ * ./gradlew loadTest --tests '*MixedWorkloadLoadTest' -Dloadtest.requests=5000 -Dloadtest.slo.submit.p99-ms=200
+ * */
+class MixedWorkloadLoadTest {
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 3000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int WARM_UP_REQUESTS = Integer.getInteger("loadtest.warm-up-requests", 300);
+    private static final int SURVEYS = Integer.getInteger("loadtest.surveys", 20);
+    private static final String PROFILE = System.getProperty("loadtest.profile", "");
+
+    // 요청 비율 (생성 : 제출 : 검색)
+    private static final int CREATE_WEIGHT = Integer.getInteger("loadtest.mix.create", 1);
+    private static final int SUBMIT_WEIGHT = Integer.getInteger("loadtest.mix.submit", 15);
+    private static final int SEARCH_WEIGHT = Integer.getInteger("loadtest.mix.search", 4);
+
+    // 기본 SLO 는 단일 CPU 에서 클라이언트/애플리케이션/H2 가 함께 실행되는 환경 기준의 회귀 감지용 상한
+    private static final Map<String, Double> DEFAULT_P99_MILLIS = Map.of(
+            "create", 2_000.0,
+            "submit", 2_000.0,
+            "search", 2_000.0);
+    private static final double DEFAULT_MIN_THROUGHPUT = 20.0;
+
+    @DisplayName("생성/제출/검색 혼합 부하에서 API 별 p99 지연 시간, 실패율, 처리량이 SLO 를 만족한다.")
+    @Test
+    void mixedWorkloadMeetsSlo() throws Exception {
+        String[] profiles = PROFILE.isBlank() ? new String[0] : PROFILE.split(",");
+        try (LocalSurveyApplication application = LocalSurveyApplication.start("mixed", profiles);
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            SurveyLoadClient client = new SurveyLoadClient(application.baseUrl(), application.objectMapper(), clientExecutor);
+
+            List<SurveyLoadClient.CreatedSurvey> surveys = new ArrayList<>(SURVEYS);
+            for (int i = 0; i < SURVEYS; i++) {
+                surveys.add(client.createSurvey());
+            }
+
+            List<LoadDriver.WeightedOperation> mix = List.of(
+                    new LoadDriver.WeightedOperation("create", CREATE_WEIGHT, 200, sequence -> {
+                        client.createSurvey();
+                        return 200;
+                    }),
+                    new LoadDriver.WeightedOperation("submit", SUBMIT_WEIGHT, 200,
+                            sequence -> client.submitAnswer(surveys.get(sequence % surveys.size()), sequence)),
+                    new LoadDriver.WeightedOperation("search", SEARCH_WEIGHT, 200,
+                            sequence -> client.searchAnswers(surveys.get(sequence % surveys.size()), sequence)));
+
+            LoadDriver.run(clientExecutor, CONCURRENCY, WARM_UP_REQUESTS, mix);
+            LoadReport report = LoadDriver.run(clientExecutor, CONCURRENCY, REQUESTS, mix);
+            System.out.println(report.format("혼합 부하 테스트" + (PROFILE.isBlank() ? "" : " [" + PROFILE + "]")));
+
+            List<String> violations = SloThresholds.fromSystemProperties(DEFAULT_P99_MILLIS, DEFAULT_MIN_THROUGHPUT)
+                    .violations(report);
+            Assertions.assertThat(violations)
+                    .as("SLO 위반")
+                    .isEmpty();
+        }
+    }
+}
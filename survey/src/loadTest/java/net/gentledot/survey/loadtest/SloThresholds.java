@@ -0,0 +1,56 @@
+package net.gentledot.survey.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 부하 테스트 SLO 기준. 시스템 프로퍼티로 기본값을 변경할 수 있다.
+ * - loadtest.slo.<api>.p99-ms : API 별 p99 지연 시간 상한 (ms)
+ * - loadtest.slo.max-error-rate : API 별 실패율 상한 (0.0 ~ 1.0)
+ * - loadtest.slo.min-throughput : 전체 처리량 하한 (req/s)
+ * */
+final class SloThresholds {
+    private final Map<String, Double> p99MillisByOperation;
+    private final double maxErrorRate;
+    private final double minThroughput;
+
+    private SloThresholds(Map<String, Double> p99MillisByOperation, double maxErrorRate, double minThroughput) {
+        this.p99MillisByOperation = p99MillisByOperation;
+        this.maxErrorRate = maxErrorRate;
+        this.minThroughput = minThroughput;
+    }
+
+    static SloThresholds fromSystemProperties(Map<String, Double> defaultP99MillisByOperation, double defaultMinThroughput) {
+        Map<String, Double> p99MillisByOperation = new LinkedHashMap<>();
+        defaultP99MillisByOperation.forEach((operation, defaultValue) ->
+                p99MillisByOperation.put(operation, doubleProperty("loadtest.slo." + operation + ".p99-ms", defaultValue)));
+
+        return new SloThresholds(p99MillisByOperation,
+                doubleProperty("loadtest.slo.max-error-rate", 0.0),
+                doubleProperty("loadtest.slo.min-throughput", defaultMinThroughput));
+    }
+
+    List<String> violations(LoadReport report) {
+        List<String> violations = new ArrayList<>();
+        for (LoadReport.OperationResult operation : report.operations()) {
+            Double p99Limit = p99MillisByOperation.get(operation.name());
+            if (p99Limit != null && operation.percentileMillis(99) > p99Limit) {
+                violations.add(String.format("%s p99 %.2fms > %.2fms", operation.name(), operation.percentileMillis(99), p99Limit));
+            }
+            if (operation.errorRate() > maxErrorRate) {
+                violations.add(String.format("%s error rate %.4f > %.4f", operation.name(), operation.errorRate(), maxErrorRate));
+            }
+        }
+        if (report.throughput() < minThroughput) {
+            violations.add(String.format("throughput %.1f req/s < %.1f req/s", report.throughput(), minThroughput));
+        }
+        return violations;
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+}
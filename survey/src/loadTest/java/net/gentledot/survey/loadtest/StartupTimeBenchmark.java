@@ -0,0 +1,120 @@
+package net.gentledot.survey.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * prod 프로필 기동 시간 비교.
+ * 각 실행 방식으로 애플리케이션을 띄워 Spring Boot 가 "Started ... in N seconds (process running for M)" 를 출력하면 종료시키고,
+ * 프로세스 시작부터 해당 로그까지의 시간과 Spring Boot 가 측정한 기동 시간을 기록한다.
+ *
+ * ./gradlew startupBenchmark -Pstartup.runs=5
+ * args : <boot jar> <압축 해제된 application jar> <CDS archive> <결과 파일> <실행 횟수>
+ * */
+public class StartupTimeBenchmark {
+    private static final Pattern STARTED_PATTERN = Pattern.compile("Started \\S+ in ([0-9.]+) seconds \\(process running for ([0-9.]+)\\)");
+    private static final String MAIN_CLASS = "net.gentledot.survey.SurveyApplication";
+    private static final long PROCESS_TIMEOUT_SECONDS = 120;
+
+    public static void main(String[] args) throws Exception {
+        String bootJar = args[0];
+        String extractedJar = args[1];
+        String cdsArchive = args[2];
+        Path resultFile = Path.of(args[3]);
+        int runs = Integer.parseInt(args[4]);
+
+        List<StartupMode> modes = List.of(
+                new StartupMode("boot jar", List.of("-jar", bootJar)),
+                new StartupMode("extracted", List.of("-cp", extractedJar, MAIN_CLASS)),
+                new StartupMode("extracted + AOT", List.of("-Dspring.aot.enabled=true", "-cp", extractedJar, MAIN_CLASS)),
+                new StartupMode("extracted + AOT + CDS", List.of("-XX:SharedArchiveFile=" + cdsArchive, "-Xshare:auto",
+                        "-Dspring.aot.enabled=true", "-cp", extractedJar, MAIN_CLASS)));
+
+        List<String> lines = new ArrayList<>();
+        lines.add("Startup time (prod profile, %d runs, %d CPUs, %s)".formatted(runs, Runtime.getRuntime().availableProcessors(), Runtime.version()));
+        lines.add("%-24s %14s %14s %16s %16s".formatted("mode", "wall p50 (ms)", "wall min (ms)", "started p50 (s)", "process p50 (s)"));
+        for (StartupMode mode : modes) {
+            // 파일 시스템 캐시 등의 영향을 줄이기 위해 측정 전 한 번 실행
+            launch(mode);
+
+            List<Long> wallMillis = new ArrayList<>();
+            List<Double> startedSeconds = new ArrayList<>();
+            List<Double> processSeconds = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                StartupResult result = launch(mode);
+                wallMillis.add(result.wallMillis());
+                startedSeconds.add(result.startedSeconds());
+                processSeconds.add(result.processSeconds());
+            }
+            Collections.sort(wallMillis);
+            Collections.sort(startedSeconds);
+            Collections.sort(processSeconds);
+            lines.add("%-24s %14d %14d %16.3f %16.3f".formatted(mode.name(), median(wallMillis), wallMillis.getFirst(),
+                    median(startedSeconds), median(processSeconds)));
+        }
+
+        String report = String.join(System.lineSeparator(), lines);
+        System.out.println(report);
+        Files.createDirectories(resultFile.getParent());
+        Files.writeString(resultFile, report + System.lineSeparator(), StandardCharsets.UTF_8);
+    }
+
+    private static StartupResult launch(StartupMode mode) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(mode.arguments());
+        command.add("--spring.profiles.active=prod");
+        command.add("--server.port=0");
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+                Matcher matcher = STARTED_PATTERN.matcher(line);
+                if (matcher.find()) {
+                    long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    stop(process);
+                    return new StartupResult(wallMillis, Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2)));
+                }
+            }
+        } finally {
+            stop(process);
+        }
+
+        output.forEach(System.err::println);
+        throw new IllegalStateException(mode.name() + " 기동에 실패했습니다. (exit " + process.exitValue() + ")");
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        if (!process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        if (!process.waitFor(PROCESS_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static <T> T median(List<T> sorted) {
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private record StartupMode(String name, List<String> arguments) {
+    }
+
+    private record StartupResult(long wallMillis, double startedSeconds, double processSeconds) {
+    }
+}
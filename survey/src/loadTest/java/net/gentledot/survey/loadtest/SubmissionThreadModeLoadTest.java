@@ -0,0 +1,53 @@
+package net.gentledot.survey.loadtest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * 플랫폼 스레드(Tomcat 기본 스레드 풀)와 가상 스레드(virtual 프로필) 모드의 응답 제출 처리량/지연 시간 비교.
+ * 두 모드 모두 같은 커넥션 풀 크기와 OSIV 설정으로 띄워 스레드 모델만 다르게 한다.
+ *
+ * ./gradlew loadTest --tests '*SubmissionThreadModeLoadTest' -Dloadtest.requests=4000 -Dloadtest.concurrency=400
+ * */
+class SubmissionThreadModeLoadTest {
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 4000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final int WARM_UP_REQUESTS = Integer.getInteger("loadtest.warm-up-requests", 500);
+
+    @DisplayName("가상 스레드 모드와 플랫폼 스레드 모드의 응답 제출 처리량과 p99 지연 시간을 비교한다.")
+    @Test
+    void compareSubmissionBetweenPlatformAndVirtualThreads() throws Exception {
+        LoadReport platform = runSubmissionLoad("platform", false);
+        LoadReport virtual = runSubmissionLoad("virtual", true);
+
+        System.out.println(platform.format("응답 제출 [platform]"));
+        System.out.println(virtual.format("응답 제출 [virtual]"));
+
+        Assertions.assertThat(platform.operation("submit").failed()).isZero();
+        Assertions.assertThat(virtual.operation("submit").failed()).isZero();
+    }
+
+    private LoadReport runSubmissionLoad(String mode, boolean virtualThreads) throws Exception {
+        String[] profiles = virtualThreads ? new String[]{"virtual"} : new String[0];
+        try (LocalSurveyApplication application = LocalSurveyApplication.start(mode, profiles,
+                "spring.datasource.hikari.maximum-pool-size=20",
+                "spring.jpa.open-in-view=false");
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Assertions.assertThat(application.property("spring.threads.virtual.enabled", Boolean.class, false))
+                    .isEqualTo(virtualThreads);
+
+            SurveyLoadClient client = new SurveyLoadClient(application.baseUrl(), application.objectMapper(), clientExecutor);
+            SurveyLoadClient.CreatedSurvey survey = client.createSurvey();
+            List<LoadDriver.WeightedOperation> mix = List.of(
+                    new LoadDriver.WeightedOperation("submit", 1, 200, sequence -> client.submitAnswer(survey, sequence)));
+
+            LoadDriver.run(clientExecutor, CONCURRENCY, WARM_UP_REQUESTS, mix);
+            return LoadDriver.run(clientExecutor, CONCURRENCY, REQUESTS, mix);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package net.gentledot.survey.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/*
+ * 서베이 API 호출 클라이언트 (HTTP/1.1, 요청 스레드에서 동기 호출)
+ * */
+final class SurveyLoadClient {
+    static final String CREATE_SURVEY_REQUEST = """
+            {
+              "name": "부하 테스트 서베이",
+              "description": "응답 제출 부하 테스트",
+              "questions": [
+                {
+                  "question": "선호하는 시간대",
+                  "description": "하나를 선택해주세요",
+                  "type": "SINGLE_SELECT",
+                  "required": "REQUIRED",
+                  "options": [{"option": "오전"}, {"option": "오후"}, {"option": "저녁"}]
+                },
+                {
+                  "question": "의견",
+                  "description": "자유롭게 작성해주세요",
+                  "type": "PARAGRAPH",
+                  "required": "OPTIONAL",
+                  "options": []
+                }
+              ]
+            }
+            """;
+
+    private static final String[] TIME_OPTIONS = {"오전", "오후", "저녁"};
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+
+    SurveyLoadClient(String baseUrl, ObjectMapper objectMapper, Executor executor) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    /*
+     * 생성된 서베이 ID 와 질문 ID (선택형, 서술형 순서)
+     * */
+    record CreatedSurvey(String surveyId, long selectQuestionId, long textQuestionId) {
+    }
+
+    CreatedSurvey createSurvey() throws IOException {
+        HttpResponse<String> response = send(post(baseUrl, CREATE_SURVEY_REQUEST));
+        if (response.statusCode() != 200) {
+            throw new IOException("서베이 생성 실패: " + response.statusCode());
+        }
+
+        JsonNode data = objectMapper.readTree(response.body()).get("data");
+        JsonNode questions = data.get("questions");
+        return new CreatedSurvey(data.get("surveyId").asText(),
+                questions.get(0).get("questionId").asLong(),
+                questions.get(1).get("questionId").asLong());
+    }
+
+    /*
+     * 질문 수가 많은 서베이의 ID 와 질문 ID 목록 (모두 선택 입력 서술형)
+     * */
+    record LargeSurvey(String surveyId, List<Long> questionIds) {
+    }
+
+    LargeSurvey createLargeSurvey(int questionCount) throws IOException {
+        ObjectNode request = objectMapper.createObjectNode()
+                .put("name", "대형 서베이 " + questionCount)
+                .put("description", "질문 " + questionCount + "개");
+        ArrayNode questions = request.putArray("questions");
+        for (int i = 0; i < questionCount; i++) {
+            questions.addObject()
+                    .put("question", "질문 " + i)
+                    .put("description", "질문 설명 " + i)
+                    .put("type", "TEXT")
+                    .put("required", "OPTIONAL")
+                    .putArray("options");
+        }
+
+        HttpResponse<String> response = send(post(baseUrl, objectMapper.writeValueAsString(request)));
+        if (response.statusCode() != 200) {
+            throw new IOException("서베이 생성 실패: " + response.statusCode() + " " + response.body());
+        }
+
+        JsonNode data = objectMapper.readTree(response.body()).get("data");
+        List<Long> questionIds = new ArrayList<>(questionCount);
+        data.get("questions").forEach(question -> questionIds.add(question.get("questionId").asLong()));
+        return new LargeSurvey(data.get("surveyId").asText(), questionIds);
+    }
+
+    /*
+     * 질문 하나만 수정 (요청 크기는 서베이 질문 수와 무관)
+     * */
+    int updateLargeSurveyQuestion(LargeSurvey survey, int sequence) throws IOException {
+        long questionId = survey.questionIds().get(sequence % survey.questionIds().size());
+        String updateRequest = """
+                {
+                  "id": "%s",
+                  "name": "대형 서베이",
+                  "description": "질문 수정 %d",
+                  "questions": [
+                    {"questionId": %d, "updateType": "MODIFY", "question": "수정된 질문 %d", "description": "수정", "type": "TEXT", "required": "OPTIONAL", "options": []}
+                  ]
+                }
+                """.formatted(survey.surveyId(), sequence, questionId, sequence);
+        return send(put(baseUrl, updateRequest)).statusCode();
+    }
+
+    /*
+     * 서베이의 모든 질문에 응답 (모든 질문에 대한 응답이 필요)
+     * */
+    int submitLargeSurveyAnswer(LargeSurvey survey, int sequence) throws IOException {
+        ArrayNode answers = objectMapper.createArrayNode();
+        for (Long questionId : survey.questionIds()) {
+            answers.addObject()
+                    .put("questionId", questionId)
+                    .putArray("answer").add("대형 서베이 응답 " + sequence);
+        }
+        return send(post(baseUrl + "/" + survey.surveyId() + "/answer", objectMapper.writeValueAsString(answers))).statusCode();
+    }
+
+    int submitAnswer(CreatedSurvey survey, int sequence) throws IOException {
+        String answerRequest = """
+                [
+                  {"questionId": %d, "answer": ["%s"]},
+                  {"questionId": %d, "answer": ["부하 테스트 응답 %d"]}
+                ]
+                """.formatted(survey.selectQuestionId(), TIME_OPTIONS[sequence % TIME_OPTIONS.length], survey.textQuestionId(), sequence);
+        return send(post(baseUrl + "/" + survey.surveyId() + "/answer", answerRequest)).statusCode();
+    }
+
+    int searchAnswers(CreatedSurvey survey, int sequence) throws IOException {
+        String query = "?questionName=" + encode("선호하는 시간대") + "&answer=" + encode(TIME_OPTIONS[sequence % TIME_OPTIONS.length]) + "&size=20";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/" + survey.surveyId() + "/answer/all" + query))
+                .GET()
+                .build();
+        return send(request).statusCode();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest put(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+}
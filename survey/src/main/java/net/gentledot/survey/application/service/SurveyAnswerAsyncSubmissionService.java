@@ -0,0 +1,357 @@
+package net.gentledot.survey.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.gentledot.survey.application.service.idempotency.IdempotentSubmission;
+import net.gentledot.survey.application.service.idempotency.SurveyAnswerIdempotencyService;
+import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.in.model.response.SurveyAnswerReceipt;
+import net.gentledot.survey.application.service.metrics.SurveyValidationMetrics;
+import net.gentledot.survey.application.service.out.SurveyAnswerIdempotencyRepository;
+import net.gentledot.survey.application.service.out.SurveyAnswerRepository;
+import net.gentledot.survey.application.service.out.SurveyRepository;
+import net.gentledot.survey.application.service.submission.PendingSurveyAnswer;
+import net.gentledot.survey.application.service.submission.SurveyAnswerJournal;
+import net.gentledot.survey.domain.exception.ServiceError;
+import net.gentledot.survey.domain.exception.SurveyServiceException;
+import net.gentledot.survey.domain.exception.SurveySubmissionOverloadedException;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswer;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerIdempotency;
+import net.gentledot.survey.domain.surveyanswer.dto.SubmitSurveyAnswerDto;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import static net.gentledot.survey.application.service.util.SurveyValidator.validateSurveyAnswers;
+
+/*
+ * 응답 비동기 제출 (write-behind).
+ * 요청 스레드에서는 캐시된 서베이 정의로 검증만 하고 고정 크기 대기열에 넣은 뒤 접수 ID 를 반환한다.
+ * 대기열은 스케줄러가 batch-size 단위로 꺼내 하나의 트랜잭션(group commit)으로 저장하므로
+ * 제출이 몰려도 요청마다 커넥션을 점유하지 않는다.
+ * */
+@Slf4j
+@Service
+public class SurveyAnswerAsyncSubmissionService {
+    public static final String FAILED_SUBMISSION_METRIC = "survey.submission.async.failed";
+
+    private final SurveyRepository surveyRepository;
+    private final SurveyAnswerRepository surveyAnswerRepository;
+    private final SurveyStatisticsService surveyStatisticsService;
+    private final SurveyAnswerIdempotencyService idempotencyService;
+    private final SurveyAnswerIdempotencyRepository idempotencyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SurveyValidationMetrics validationMetrics;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<PendingSurveyAnswer> queue;
+    // 반영에 실패했거나 저널에서 복구된 응답, 대기열보다 먼저 처리
+    private final ConcurrentLinkedDeque<PendingSurveyAnswer> carryOver = new ConcurrentLinkedDeque<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final SurveyAnswerJournal journal;
+    private final int maximumAttempts;
+    // 건별 재반영에 실패한 횟수 (접수 ID 기준)
+    private final Map<String, Integer> failedAttempts = new ConcurrentHashMap<>();
+    private final Counter failedSubmissionCounter;
+
+    public SurveyAnswerAsyncSubmissionService(SurveyRepository surveyRepository,
+                                              SurveyAnswerRepository surveyAnswerRepository,
+                                              SurveyStatisticsService surveyStatisticsService,
+                                              SurveyAnswerIdempotencyService idempotencyService,
+                                              SurveyAnswerIdempotencyRepository idempotencyRepository,
+                                              TransactionTemplate transactionTemplate,
+                                              SurveyValidationMetrics validationMetrics,
+                                              ObjectMapper objectMapper,
+                                              MeterRegistry meterRegistry,
+                                              @Value("${survey.submission.async.enabled:false}") boolean enabled,
+                                              @Value("${survey.submission.async.queue-capacity:10000}") int queueCapacity,
+                                              @Value("${survey.submission.async.batch-size:500}") int batchSize,
+                                              @Value("${survey.submission.async.journal-path:}") String journalPath,
+                                              @Value("${survey.submission.async.maximum-attempts:3}") int maximumAttempts) {
+        this.surveyRepository = surveyRepository;
+        this.surveyAnswerRepository = surveyAnswerRepository;
+        this.surveyStatisticsService = surveyStatisticsService;
+        this.idempotencyService = idempotencyService;
+        this.idempotencyRepository = idempotencyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validationMetrics = validationMetrics;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.journal = enabled && StringUtils.isNotBlank(journalPath)
+                ? new SurveyAnswerJournal(Path.of(journalPath), objectMapper)
+                : null;
+        this.maximumAttempts = maximumAttempts;
+        this.failedSubmissionCounter = Counter.builder(FAILED_SUBMISSION_METRIC)
+                .description("반영에 반복 실패하여 대기열에서 제외된 비동기 제출 응답 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getPendingCount() {
+        return queue.size() + carryOver.size();
+    }
+
+    public SurveyAnswerReceipt acceptSurveyAnswer(String surveyId, List<SubmitSurveyAnswer> answers) {
+        return acceptSurveyAnswer(surveyId, answers, null);
+    }
+
+    /*
+     * 같은 Idempotency-Key 로 이미 접수된 제출이 있으면 검증/접수 없이 기존 접수 정보를 반환한다.
+     * */
+    public SurveyAnswerReceipt acceptSurveyAnswer(String surveyId, List<SubmitSurveyAnswer> answers, String idempotencyKey) {
+        SurveyAnswerIdempotencyService.validateIdempotencyKey(idempotencyKey);
+        String key = SurveyAnswerIdempotencyService.hasIdempotencyKey(idempotencyKey) ? idempotencyKey : null;
+        if (key != null) {
+            Optional<IdempotentSubmission> previousSubmission = idempotencyService.findPreviousSubmission(surveyId, key);
+            if (previousSubmission.isPresent()) {
+                return toReceipt(surveyId, previousSubmission.get());
+            }
+        }
+
+        SurveyDefinition definition = surveyRepository.findDefinitionById(surveyId);
+
+        // 설문조사 항목과 응답 값 검증 (접수 이후에는 실패하지 않도록 동기로 처리)
+        validationMetrics.validateSurveyAnswers(definition, answers);
+
+        if (queue.remainingCapacity() == 0) {
+            throw new SurveySubmissionOverloadedException(ServiceError.SUBMIT_QUEUE_FULL);
+        }
+
+        List<SubmitSurveyAnswerDto> collectedSubmitAnswers = answers.stream()
+                .map(SubmitSurveyAnswerDto::from)
+                .collect(Collectors.toList());
+        IdempotentSubmission submission = new IdempotentSubmission(null, UUID.randomUUID().toString(), LocalDateTime.now());
+
+        // DB 반영 전까지 같은 키의 재시도가 다시 접수되지 않도록 키를 선점
+        if (key != null) {
+            IdempotentSubmission reserved = idempotencyService.reserve(surveyId, key, submission);
+            if (reserved != null) {
+                return toReceipt(surveyId, reserved);
+            }
+        }
+
+        try {
+            if (journal != null) {
+                journal.appendSubmitted(submission.receiptId(), surveyId, answers, key);
+            }
+
+            if (!queue.offer(new PendingSurveyAnswer(submission.receiptId(), definition, collectedSubmitAnswers, key))) {
+                if (journal != null) {
+                    journal.appendCompleted(List.of(submission.receiptId()));
+                }
+                throw new SurveySubmissionOverloadedException(ServiceError.SUBMIT_QUEUE_FULL);
+            }
+        } catch (RuntimeException e) {
+            if (key != null) {
+                idempotencyService.release(surveyId, key, submission);
+            }
+            throw e;
+        }
+
+        return toReceipt(surveyId, submission);
+    }
+
+    @Scheduled(fixedDelayString = "${survey.submission.async.flush-interval-ms:100}")
+    public void flushPendingAnswers() {
+        flushLock.lock();
+        try {
+            while (writeNextBatch()) {
+                // 대기열이 빌 때까지 batch 단위로 반영
+            }
+            if (journal != null) {
+                journal.compactIfSettled();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PostConstruct
+    public void recoverFromJournal() {
+        if (journal == null) {
+            return;
+        }
+
+        List<SurveyAnswerJournal.Entry> pendingEntries = journal.open();
+        for (SurveyAnswerJournal.Entry entry : pendingEntries) {
+            try {
+                SurveyDefinition definition = surveyRepository.findDefinitionById(entry.surveyId());
+                validateSurveyAnswers(definition, entry.answers());
+
+                List<SubmitSurveyAnswerDto> collectedSubmitAnswers = entry.answers().stream()
+                        .map(SubmitSurveyAnswerDto::from)
+                        .collect(Collectors.toList());
+                carryOver.addLast(new PendingSurveyAnswer(entry.receiptId(), definition, collectedSubmitAnswers, entry.idempotencyKey()));
+            } catch (SurveyServiceException e) {
+                // 접수 이후 서베이가 변경되어 더 이상 유효하지 않은 응답은 복구하지 않음
+                log.warn("=== 저널에서 복구한 응답이 유효하지 않아 제외합니다 === receiptId={}", entry.receiptId(), e);
+                journal.appendCompleted(List.of(entry.receiptId()));
+            }
+        }
+
+        if (!pendingEntries.isEmpty()) {
+            log.info("=== 응답 저널에서 {}건을 복구했습니다 ===", carryOver.size());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingAnswers();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private boolean writeNextBatch() {
+        List<PendingSurveyAnswer> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && !carryOver.isEmpty()) {
+            batch.add(carryOver.pollFirst());
+        }
+        queue.drainTo(batch, batchSize - batch.size());
+
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        try {
+            writeBatch(batch);
+        } catch (RuntimeException e) {
+            log.warn("=== 응답 일괄 반영 실패, 건별로 다시 반영 === count={}", batch.size(), e);
+            return writeIndividually(batch);
+        }
+
+        complete(batch);
+        return true;
+    }
+
+    /*
+     * 항상 실패하는 응답 하나가 batch 전체를 막지 않도록 건별로 다시 반영한다.
+     * 다른 응답은 반영되었는데 실패한 응답은 실패 횟수를 세고, maximum-attempts 에 도달하면 대기열에서 제외(dead letter)한다.
+     * 모두 실패한 경우는 DB 장애로 보고 실패 횟수를 세지 않은 채 순서를 유지하여 다음 주기에 재시도한다.
+     * (다른 인스턴스가 먼저 저장한 키로 유니크 제약에 걸린 경우에도 건별 반영 시에는 해당 응답을 건너뜀)
+     * */
+    private boolean writeIndividually(List<PendingSurveyAnswer> batch) {
+        Map<PendingSurveyAnswer, RuntimeException> failures = new LinkedHashMap<>();
+        for (PendingSurveyAnswer pending : batch) {
+            try {
+                writeBatch(List.of(pending));
+                failedAttempts.remove(pending.receiptId());
+                complete(List.of(pending));
+            } catch (RuntimeException e) {
+                failures.put(pending, e);
+            }
+        }
+
+        boolean written = failures.size() < batch.size();
+        List<PendingSurveyAnswer> retries = new ArrayList<>();
+        failures.forEach((pending, e) -> {
+            if (written && failedAttempts.merge(pending.receiptId(), 1, Integer::sum) >= maximumAttempts) {
+                deadLetter(pending, e);
+            } else {
+                retries.add(pending);
+            }
+        });
+        for (int i = retries.size() - 1; i >= 0; i--) {
+            carryOver.addFirst(retries.get(i));
+        }
+        return retries.isEmpty();
+    }
+
+    private void writeBatch(List<PendingSurveyAnswer> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> processedKeys = findPersistedKeys(batch);
+            List<PendingSurveyAnswer> writtenAnswers = new ArrayList<>(batch.size());
+            List<SurveyAnswer> surveyAnswers = new ArrayList<>(batch.size());
+            for (PendingSurveyAnswer pending : batch) {
+                // 이미 반영된 키(저널 복구 후 재반영 등)나 batch 안에서 중복된 키는 건너뜀
+                if (pending.idempotencyKey() != null && !processedKeys.add(toKey(pending.surveyId(), pending.idempotencyKey()))) {
+                    continue;
+                }
+                writtenAnswers.add(pending);
+                surveyAnswers.add(SurveyAnswer.of(surveyRepository.getReferenceById(pending.surveyId()), pending.definition(), pending.answers()));
+                surveyStatisticsService.recordSubmission(pending.definition(), pending.answers());
+            }
+            surveyAnswerRepository.saveAll(surveyAnswers);
+
+            List<SurveyAnswerIdempotency> idempotencies = new ArrayList<>();
+            for (int i = 0; i < writtenAnswers.size(); i++) {
+                PendingSurveyAnswer pending = writtenAnswers.get(i);
+                if (pending.idempotencyKey() != null) {
+                    idempotencies.add(SurveyAnswerIdempotency.of(pending.surveyId(), pending.idempotencyKey(), surveyAnswers.get(i).getId(), pending.receiptId()));
+                }
+            }
+            idempotencyRepository.saveAll(idempotencies);
+        });
+    }
+
+    private void complete(List<PendingSurveyAnswer> writtenAnswers) {
+        if (journal != null) {
+            journal.appendCompleted(writtenAnswers.stream().map(PendingSurveyAnswer::receiptId).collect(Collectors.toList()));
+        }
+    }
+
+    // 저널에는 실패로 기록하여 재시작 시 복구하지 않고, 같은 키로 다시 제출할 수 있도록 선점한 키를 해제
+    private void deadLetter(PendingSurveyAnswer pending, RuntimeException cause) {
+        log.error("=== 응답 반영에 {}회 실패하여 대기열에서 제외합니다 === receiptId={}, surveyId={}",
+                maximumAttempts, pending.receiptId(), pending.surveyId(), cause);
+        failedAttempts.remove(pending.receiptId());
+        failedSubmissionCounter.increment();
+        if (journal != null) {
+            journal.appendFailed(List.of(pending.receiptId()));
+        }
+        if (pending.idempotencyKey() != null) {
+            idempotencyService.releaseReceipt(pending.surveyId(), pending.idempotencyKey(), pending.receiptId());
+        }
+    }
+
+    private Set<String> findPersistedKeys(List<PendingSurveyAnswer> batch) {
+        List<String> idempotencyKeys = batch.stream()
+                .map(PendingSurveyAnswer::idempotencyKey)
+                .filter(key -> key != null)
+                .distinct()
+                .collect(Collectors.toList());
+        if (idempotencyKeys.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return idempotencyRepository.findAllByIdempotencyKeyIn(idempotencyKeys).stream()
+                .map(idempotency -> toKey(idempotency.getSurveyId(), idempotency.getIdempotencyKey()))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static String toKey(String surveyId, String idempotencyKey) {
+        return surveyId + ":" + idempotencyKey;
+    }
+
+    private static SurveyAnswerReceipt toReceipt(String surveyId, IdempotentSubmission submission) {
+        return new SurveyAnswerReceipt(submission.receiptId(), surveyId, submission.acceptedAt());
+    }
+}
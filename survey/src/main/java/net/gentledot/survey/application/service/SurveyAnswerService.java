@@ -1,72 +1,232 @@
 package net.gentledot.survey.application.service;
 
 import lombok.extern.slf4j.Slf4j;
+import net.gentledot.survey.application.service.idempotency.IdempotentSubmission;
+import net.gentledot.survey.application.service.idempotency.SurveyAnswerIdempotencyService;
 import net.gentledot.survey.application.service.in.model.request.SearchSurveyAnswerRequest;
 import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.in.model.response.BulkSubmitSurveyAnswerResponse;
+import net.gentledot.survey.application.service.in.model.response.BulkSubmitSurveyAnswerResult;
 import net.gentledot.survey.application.service.in.model.response.SearchSurveyAnswerResponse;
 import net.gentledot.survey.application.service.in.model.response.SurveyAnswerValue;
+import net.gentledot.survey.application.service.metrics.SurveyValidationMetrics;
+import net.gentledot.survey.application.service.out.SurveyAnswerIdempotencyRepository;
 import net.gentledot.survey.application.service.out.SurveyAnswerRepository;
 import net.gentledot.survey.application.service.out.SurveyRepository;
 import net.gentledot.survey.domain.exception.ServiceError;
 import net.gentledot.survey.domain.exception.SurveyNotFoundException;
+import net.gentledot.survey.domain.exception.SurveyServiceException;
+import net.gentledot.survey.domain.exception.SurveySubmitValidationException;
 import net.gentledot.survey.domain.surveyanswer.SurveyAnswer;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerIdempotency;
 import net.gentledot.survey.domain.surveyanswer.SurveyAnswerSubmission;
 import net.gentledot.survey.domain.surveyanswer.dto.SubmitSurveyAnswerDto;
 import net.gentledot.survey.domain.surveybase.Survey;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import static net.gentledot.survey.application.service.util.SurveyValidator.validateSurveyAnswers;
-
 @Slf4j
 @Service
 public class SurveyAnswerService {
+    public static final int DEFAULT_ANSWER_PAGE_SIZE = 20;
+    public static final int MAXIMUM_ANSWER_PAGE_SIZE = 100;
+
     private final SurveyRepository surveyRepository;
     private final SurveyAnswerRepository surveyAnswerRepository;
-
-    public SurveyAnswerService(SurveyRepository surveyRepository, SurveyAnswerRepository surveyAnswerRepository) {
+    private final SurveyStatisticsService surveyStatisticsService;
+    private final SurveyAnswerIdempotencyService idempotencyService;
+    private final SurveyAnswerIdempotencyRepository idempotencyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SurveyValidationMetrics validationMetrics;
+    private final int maximumBulkSubmissionCount;
+
+    public SurveyAnswerService(SurveyRepository surveyRepository,
+                               SurveyAnswerRepository surveyAnswerRepository,
+                               SurveyStatisticsService surveyStatisticsService,
+                               SurveyAnswerIdempotencyService idempotencyService,
+                               SurveyAnswerIdempotencyRepository idempotencyRepository,
+                               TransactionTemplate transactionTemplate,
+                               SurveyValidationMetrics validationMetrics,
+                               @Value("${survey.submission.bulk.maximum-count:1000}") int maximumBulkSubmissionCount) {
         this.surveyRepository = surveyRepository;
         this.surveyAnswerRepository = surveyAnswerRepository;
+        this.surveyStatisticsService = surveyStatisticsService;
+        this.idempotencyService = idempotencyService;
+        this.idempotencyRepository = idempotencyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validationMetrics = validationMetrics;
+        this.maximumBulkSubmissionCount = maximumBulkSubmissionCount;
     }
 
-    @Transactional
     public void submitSurveyAnswer(String surveyId, List<SubmitSurveyAnswer> answers) {
-        Survey survey = surveyRepository.findById(surveyId);
+        SurveyDefinition definition = surveyRepository.findDefinitionById(surveyId);
+        transactionTemplate.executeWithoutResult(status -> saveSurveyAnswer(definition, answers));
+    }
+
+    /*
+     * Idempotency-Key 를 사용하는 응답 제출.
+     * 같은 키로 이미 처리된 제출이 있으면 검증/저장 없이 기존 결과를 반환한다.
+     * */
+    public IdempotentSubmission submitSurveyAnswer(String surveyId, List<SubmitSurveyAnswer> answers, String idempotencyKey) {
+        SurveyAnswerIdempotencyService.validateIdempotencyKey(idempotencyKey);
+        if (!SurveyAnswerIdempotencyService.hasIdempotencyKey(idempotencyKey)) {
+            SurveyDefinition definition = surveyRepository.findDefinitionById(surveyId);
+            SurveyAnswer surveyAnswer = transactionTemplate.execute(status -> saveSurveyAnswer(definition, answers));
+            return new IdempotentSubmission(surveyAnswer.getId(), null, surveyAnswer.getCreatedAt());
+        }
+
+        Optional<IdempotentSubmission> previousSubmission = idempotencyService.findPreviousSubmission(surveyId, idempotencyKey);
+        if (previousSubmission.isPresent()) {
+            return previousSubmission.get();
+        }
+
+        SurveyDefinition definition = surveyRepository.findDefinitionById(surveyId);
+        try {
+            // 응답과 키를 같은 트랜잭션으로 저장하여 키만 남거나 응답만 남지 않도록 함
+            IdempotentSubmission submission = transactionTemplate.execute(status -> {
+                SurveyAnswer surveyAnswer = saveSurveyAnswer(definition, answers);
+                SurveyAnswerIdempotency idempotency = idempotencyRepository.saveAndFlush(
+                        SurveyAnswerIdempotency.of(surveyId, idempotencyKey, surveyAnswer.getId(), null));
+                return IdempotentSubmission.from(idempotency);
+            });
+            idempotencyService.remember(surveyId, idempotencyKey, submission);
+            return submission;
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키로 동시에 제출되어 유니크 제약에 걸린 경우, 먼저 저장된 제출 결과로 응답
+            return idempotencyService.findPersistedSubmission(surveyId, idempotencyKey)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /*
+     * 서베이 정의는 쓰기 트랜잭션을 열기 전에 캐시에서 조회하고 (캐시 미스 시 별도 읽기 트랜잭션을 사용하므로 커넥션을 겹쳐 잡지 않음),
+     * 응답 엔티티에는 FK 설정용 참조만 연결
+     * */
+    private SurveyAnswer saveSurveyAnswer(SurveyDefinition definition, List<SubmitSurveyAnswer> answers) {
+        Survey survey = surveyRepository.getReferenceById(definition.getSurveyId());
 
         // 설문조사 항목과 응답 값 검증
-        validateSurveyAnswers(survey, answers);
+        validationMetrics.validateSurveyAnswers(definition, answers);
 
         List<SubmitSurveyAnswerDto> collectedSubmitAnswers = answers.stream()
                 .map(SubmitSurveyAnswerDto::from)
                 .collect(Collectors.toList());
 
-        SurveyAnswer surveyAnswer = SurveyAnswer.of(survey, collectedSubmitAnswers);
-        surveyAnswerRepository.save(surveyAnswer);
+        SurveyAnswer surveyAnswer = SurveyAnswer.of(survey, definition, collectedSubmitAnswers);
+        SurveyAnswer savedAnswer = surveyAnswerRepository.save(surveyAnswer);
+        surveyStatisticsService.recordSubmission(definition, collectedSubmitAnswers);
+        return savedAnswer;
+    }
+
+    public BulkSubmitSurveyAnswerResponse submitSurveyAnswers(String surveyId, List<List<SubmitSurveyAnswer>> submissions) {
+        if (submissions == null || submissions.isEmpty() || submissions.size() > maximumBulkSubmissionCount) {
+            throw new SurveySubmitValidationException(ServiceError.SUBMIT_BULK_SIZE_EXCEEDED);
+        }
+
+        // 서베이 정의는 쓰기 트랜잭션 밖에서 한 번만 조회하고 모든 응답을 같은 정의 기준으로 검증
+        SurveyDefinition definition = surveyRepository.findDefinitionById(surveyId);
+        return transactionTemplate.execute(status -> saveSurveyAnswers(definition, submissions));
+    }
+
+    private BulkSubmitSurveyAnswerResponse saveSurveyAnswers(SurveyDefinition definition, List<List<SubmitSurveyAnswer>> submissions) {
+        String surveyId = definition.getSurveyId();
+        Survey survey = surveyRepository.getReferenceById(surveyId);
+
+        BulkSubmitSurveyAnswerResult[] results = new BulkSubmitSurveyAnswerResult[submissions.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<SurveyAnswer> validAnswers = new ArrayList<>();
+
+        for (int index = 0; index < submissions.size(); index++) {
+            List<SubmitSurveyAnswer> answers = submissions.get(index);
+            // 비어 있는(null) 응답은 해당 항목만 실패로 처리
+            if (answers == null || answers.isEmpty() || answers.stream().anyMatch(Objects::isNull)) {
+                results[index] = BulkSubmitSurveyAnswerResult.fail(index, ServiceError.BAD_REQUEST);
+                continue;
+            }
+            try {
+                validationMetrics.validateSurveyAnswers(definition, answers);
+
+                List<SubmitSurveyAnswerDto> collectedSubmitAnswers = answers.stream()
+                        .map(SubmitSurveyAnswerDto::from)
+                        .collect(Collectors.toList());
+
+                validAnswers.add(SurveyAnswer.of(survey, definition, collectedSubmitAnswers));
+                validIndexes.add(index);
+                surveyStatisticsService.recordSubmission(definition, collectedSubmitAnswers);
+            } catch (SurveyServiceException e) {
+                results[index] = BulkSubmitSurveyAnswerResult.fail(index, e.getServiceError());
+            }
+        }
+
+        List<SurveyAnswer> savedAnswers = surveyAnswerRepository.saveAll(validAnswers);
+        for (int i = 0; i < savedAnswers.size(); i++) {
+            int index = validIndexes.get(i);
+            results[index] = BulkSubmitSurveyAnswerResult.success(index, savedAnswers.get(i).getId());
+        }
+
+        return new BulkSubmitSurveyAnswerResponse(surveyId, validAnswers.size(), submissions.size() - validAnswers.size(), List.of(results));
     }
 
     @Transactional(readOnly = true)
     public SearchSurveyAnswerResponse getSurveyAnswers(SearchSurveyAnswerRequest request) {
         String surveyId = request.getSurveyId();
-        boolean isExists = surveyRepository.existsById(surveyId);
+        verifySurveyExists(surveyId);
 
-        if (!isExists) {
-            throw new SurveyNotFoundException(ServiceError.INQUIRY_SURVEY_NOT_FOUND);
-        }
+        // 다음 페이지 존재 여부 확인을 위해 1건을 더 조회
+        int pageSize = resolvePageSize(request.getSize());
+        String questionName = StringUtils.isEmpty(request.getQuestionName()) ? null : request.getQuestionName();
+        String answerValue = StringUtils.isEmpty(request.getAnswerValue()) ? null : request.getAnswerValue();
+        List<SurveyAnswer> fetchedAnswers = surveyAnswerRepository.findPageBySurveyId(surveyId, questionName, answerValue, request.getCursor(), pageSize + 1);
 
-        List<SurveyAnswer> allSurveyAnswers = surveyAnswerRepository.findAllBySurveyId(surveyId);
+        boolean hasNext = fetchedAnswers.size() > pageSize;
+        List<SurveyAnswer> pagedAnswers = hasNext ? fetchedAnswers.subList(0, pageSize) : fetchedAnswers;
 
-        List<SurveyAnswerValue> answerValues = allSurveyAnswers.stream()
+        List<SurveyAnswerValue> answerValues = pagedAnswers.stream()
                 .map(surveyAnswer -> {
                     List<SurveyAnswerSubmission> answers = surveyAnswer.getAnswers();
-                    return SurveyAnswerValue.of(surveyAnswer.getId(), answers);
+                    return SurveyAnswerValue.of(surveyAnswer.getId(), answers, questionName, answerValue);
                 })
                 .collect(Collectors.toList());
 
-        return new SearchSurveyAnswerResponse(surveyId, answerValues);
+        Long nextCursor = hasNext ? pagedAnswers.getLast().getId() : null;
+        return new SearchSurveyAnswerResponse(surveyId, answerValues, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void verifySurveyExists(String surveyId) {
+        boolean isExists = surveyRepository.existsById(surveyId);
+
+        if (!isExists) {
+            throw new SurveyNotFoundException(ServiceError.INQUIRY_SURVEY_NOT_FOUND);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportSurveyAnswers(String surveyId, Consumer<SurveyAnswerValue> answerConsumer) {
+        verifySurveyExists(surveyId);
+
+        // 응답 단위로 묶인 제출 항목을 영속성 컨텍스트가 비워지기 전에 응답 값으로 변환하여 전달
+        surveyAnswerRepository.forEachAnswerBySurveyId(surveyId,
+                (answerId, submissions) -> answerConsumer.accept(SurveyAnswerValue.of(answerId, submissions)));
     }
 
+    private int resolvePageSize(Integer requestedSize) {
+        if (requestedSize == null || requestedSize < 1) {
+            return DEFAULT_ANSWER_PAGE_SIZE;
+        }
+        return Math.min(requestedSize, MAXIMUM_ANSWER_PAGE_SIZE);
+    }
 
 }
@@ -0,0 +1,274 @@
+package net.gentledot.survey.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.gentledot.survey.application.service.in.model.response.SurveyLiveResultDelta;
+import net.gentledot.survey.application.service.in.model.response.SurveyOptionStatisticResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyQuestionStatisticResponse;
+import net.gentledot.survey.application.service.out.SurveyRepository;
+import net.gentledot.survey.application.service.statistics.SurveyAnswerSubmittedEvent;
+import net.gentledot.survey.application.service.statistics.SurveyOptionCountAccumulator;
+import net.gentledot.survey.domain.exception.ServiceError;
+import net.gentledot.survey.domain.exception.SurveyNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 서베이 실시간 결과 (SSE)
+ * 제출 이벤트는 구독자가 있는 서베이만 메모리에 합산해 두고, 전송 주기마다 서베이별로 한 번만 직렬화하여 모든 구독자에게 보낸다.
+ * 전송 시 DB 를 읽지 않으므로 비용은 구독자 수에만 비례한다. (초기 집계는 통계 조회 API 로 확인)
+ * 소켓 쓰기는 구독자별 대기열을 통해 가상 스레드에서 처리하여, 느린 구독자가 전송 주기(스케줄러 스레드)나 다른 서베이를 막지 않는다.
+ * */
+@Slf4j
+@Service
+public class SurveyLiveResultService {
+    public static final String DELTA_EVENT_NAME = "delta";
+    public static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final SurveyRepository surveyRepository;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+    private final int maximumPendingEvents;
+
+    private final ConcurrentMap<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> pendingAnswerCounts = new ConcurrentHashMap<>();
+    private final SurveyOptionCountAccumulator pendingOptionCounts = new SurveyOptionCountAccumulator();
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SurveyLiveResultService(SurveyRepository surveyRepository,
+                                   ObjectMapper objectMapper,
+                                   @Value("${survey.live.emitter-timeout-ms:600000}") long emitterTimeoutMs,
+                                   @Value("${survey.live.maximum-pending-events:30}") int maximumPendingEvents) {
+        this.surveyRepository = surveyRepository;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maximumPendingEvents = maximumPendingEvents;
+    }
+
+    public SseEmitter subscribe(String surveyId) {
+        if (!surveyRepository.existsById(surveyId)) {
+            throw new SurveyNotFoundException(ServiceError.INQUIRY_SURVEY_NOT_FOUND);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(surveyId, emitter);
+        subscribers.compute(surveyId, (id, surveySubscribers) -> {
+            List<Subscriber> current = surveySubscribers == null ? new CopyOnWriteArrayList<>() : surveySubscribers;
+            current.add(subscriber);
+            return current;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // 첫 전송 전까지는 응답 헤더가 전달되지 않으므로, 구독 직후 주석 이벤트로 연결을 확정 (요청 스레드에서 전송)
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            unsubscribe(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount(String surveyId) {
+        List<Subscriber> surveySubscribers = subscribers.get(surveyId);
+        return surveySubscribers == null ? 0 : surveySubscribers.size();
+    }
+
+    // 아직 전송되지 않은 증가분이 남아 있는지 여부
+    public boolean hasPendingDeltas(String surveyId) {
+        return pendingAnswerCounts.containsKey(surveyId) || !pendingOptionCounts.pendingOf(surveyId).isEmpty();
+    }
+
+    /*
+     * 제출 트랜잭션 커밋 후 호출됨, 구독자가 없는 서베이는 합산하지 않음
+     * 구독자 목록의 서베이 키를 잡은 채로 합산하므로, 마지막 구독자가 해제되며 증가분을 지우는 것과 엇갈려 주인 없는 증가분이 남지 않는다.
+     * */
+    @EventListener
+    public void onAnswerSubmitted(SurveyAnswerSubmittedEvent event) {
+        subscribers.computeIfPresent(event.surveyId(), (surveyId, surveySubscribers) -> {
+            pendingAnswerCounts.merge(surveyId, 1L, Long::sum);
+            pendingOptionCounts.addAll(event.optionDeltas());
+            return surveySubscribers;
+        });
+    }
+
+    /*
+     * 전송 주기 동안 합산된 증가분을 서베이별 이벤트 하나로 묶어 전송한다.
+     * 모든 구독자는 주기마다 heartbeat 주석을 받으며 (증가분이 있으면 같은 이벤트에 포함), 끊긴 연결은 전송 실패로 정리된다.
+     * 꺼내는 도중 들어온 제출은 다음 주기에 포함된다.
+     * */
+    @Scheduled(fixedDelayString = "${survey.live.tick-interval-ms:1000}")
+    public void publishPendingDeltas() {
+        Map<String, Long> answerCounts = new HashMap<>();
+        for (String surveyId : pendingAnswerCounts.keySet()) {
+            Long count = pendingAnswerCounts.remove(surveyId);
+            if (count != null && count != 0) {
+                answerCounts.put(surveyId, count);
+            }
+        }
+
+        Map<String, Map<Long, List<SurveyOptionStatisticResponse>>> optionCounts = new HashMap<>();
+        pendingOptionCounts.drain().forEach((key, delta) -> optionCounts
+                .computeIfAbsent(key.surveyId(), surveyId -> new TreeMap<>())
+                .computeIfAbsent(key.questionId(), questionId -> new ArrayList<>())
+                .add(new SurveyOptionStatisticResponse(key.optionText(), delta)));
+
+        Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment(HEARTBEAT_COMMENT).build();
+        subscribers.forEach((surveyId, surveySubscribers) -> {
+            boolean changed = answerCounts.containsKey(surveyId) || optionCounts.containsKey(surveyId);
+            Set<ResponseBodyEmitter.DataWithMediaType> event = changed
+                    ? deltaEvent(deltaOf(surveyId, answerCounts, optionCounts), heartbeat)
+                    : heartbeat;
+            surveySubscribers.forEach(subscriber -> subscriber.enqueue(event));
+        });
+    }
+
+    /*
+     * 종료 시 열린 구독을 모두 완료하여, 서버가 SSE 요청이 끝나기를 (graceful shutdown 제한 시간까지) 기다리지 않도록 한다.
+     * 웹 서버 종료보다 먼저 발행되는 ContextClosedEvent 에서 처리
+     * */
+    @EventListener(ContextClosedEvent.class)
+    public void completeAllSubscribers() {
+        subscribers.values().forEach(surveySubscribers -> surveySubscribers.forEach(Subscriber::close));
+    }
+
+    @PreDestroy
+    public void shutdownSendExecutor() {
+        sendExecutor.shutdownNow();
+    }
+
+    private static SurveyLiveResultDelta deltaOf(String surveyId, Map<String, Long> answerCounts,
+                                                 Map<String, Map<Long, List<SurveyOptionStatisticResponse>>> optionCounts) {
+        List<SurveyQuestionStatisticResponse> questions = optionCounts.getOrDefault(surveyId, Map.of()).entrySet().stream()
+                .map(entry -> new SurveyQuestionStatisticResponse(entry.getKey(), entry.getValue()))
+                .toList();
+        return new SurveyLiveResultDelta(surveyId, answerCounts.getOrDefault(surveyId, 0L), questions);
+    }
+
+    // 직렬화는 서베이별로 한 번만 하고 같은 이벤트 내용(JSON 문자열, UTF-8)을 모든 구독자에게 전송
+    private Set<ResponseBodyEmitter.DataWithMediaType> deltaEvent(SurveyLiveResultDelta delta, Set<ResponseBodyEmitter.DataWithMediaType> heartbeat) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            log.warn("=== 서베이 실시간 결과 직렬화 실패 ===", e);
+            return heartbeat;
+        }
+        return SseEmitter.event()
+                .comment(HEARTBEAT_COMMENT)
+                .name(DELTA_EVENT_NAME)
+                .data(data)
+                .build();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.surveyId, (id, surveySubscribers) -> {
+            surveySubscribers.remove(subscriber);
+            if (surveySubscribers.isEmpty()) {
+                pendingAnswerCounts.remove(id);
+                pendingOptionCounts.remove(id);
+                return null;
+            }
+            return surveySubscribers;
+        });
+    }
+
+    /*
+     * 구독자별 전송 대기열, 한 번에 하나의 가상 스레드만 이 구독자에게 순서대로 쓴다.
+     * 대기열이 maximumPendingEvents 를 넘을 만큼 쓰기가 밀리면 연결을 종료한다. (클라이언트는 재연결 후 통계 API 로 다시 맞춤)
+     * */
+    private final class Subscriber {
+        private final String surveyId;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> pendingEvents = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingEventCount = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(String surveyId, SseEmitter emitter) {
+            this.surveyId = surveyId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed.get()) {
+                return;
+            }
+            if (pendingEventCount.incrementAndGet() > maximumPendingEvents) {
+                log.debug("서베이 실시간 결과 전송 지연, 구독 종료 : {}", surveyId);
+                close();
+                return;
+            }
+
+            pendingEvents.add(event);
+            if (sending.compareAndSet(false, true)) {
+                execute(this::sendPendingEvents);
+            }
+        }
+
+        private void sendPendingEvents() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while ((event = pendingEvents.poll()) != null) {
+                    pendingEventCount.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // 연결이 끊긴 구독자는 제거 (이후 컨테이너가 오류 콜백으로 응답을 정리), 이후 이벤트는 보내지 않음
+                        log.debug("서베이 실시간 결과 전송 실패, 구독 해제 : {}", surveyId, e);
+                        closed.set(true);
+                        unsubscribe(this);
+                        return;
+                    }
+                }
+                sending.set(false);
+                // 대기열 확인 이후 들어온 이벤트는 다른 스레드가 전송을 시작하지 않았다면 이어서 전송
+            } while (!pendingEvents.isEmpty() && sending.compareAndSet(false, true));
+        }
+
+        // 전송 중인 쓰기가 끝날 때까지 기다릴 수 있으므로 완료 처리도 전송 스레드에서 실행
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                unsubscribe(this);
+                execute(emitter::complete);
+            }
+        }
+
+        private void execute(Runnable task) {
+            try {
+                sendExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 전송하지 않음
+                closed.set(true);
+                unsubscribe(this);
+            }
+        }
+    }
+}
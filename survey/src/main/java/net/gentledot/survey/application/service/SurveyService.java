@@ -1,36 +1,65 @@
 package net.gentledot.survey.application.service;
 
 
+import net.gentledot.survey.application.service.in.model.request.SurveyCatalogCursor;
 import net.gentledot.survey.application.service.in.model.request.SurveyCreateRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyPatchRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyQuestionPatchRequest;
 import net.gentledot.survey.application.service.in.model.request.SurveyQuestionRequest;
 import net.gentledot.survey.application.service.in.model.request.SurveyUpdateRequest;
+import net.gentledot.survey.application.service.in.model.response.SurveyCatalogResponse;
 import net.gentledot.survey.application.service.in.model.response.SurveyCreateResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyPatchResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveySummaryResponse;
 import net.gentledot.survey.application.service.in.model.response.SurveyUpdateResponse;
+import net.gentledot.survey.application.service.metrics.SurveyValidationMetrics;
 import net.gentledot.survey.application.service.out.SurveyRepository;
-import net.gentledot.survey.application.service.util.SurveyValidator;
 import net.gentledot.survey.domain.enums.UpdateType;
 import net.gentledot.survey.domain.exception.ServiceError;
 import net.gentledot.survey.domain.exception.SurveyNotFoundException;
+import net.gentledot.survey.domain.exception.SurveyServiceException;
+import net.gentledot.survey.domain.exception.SurveyUpdateConflictException;
 import net.gentledot.survey.domain.surveybase.Survey;
 import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.definition.SurveyQuestionDefinition;
 import net.gentledot.survey.domain.surveybase.dto.SurveyQuestionDto;
+import net.gentledot.survey.domain.surveybase.dto.SurveySummaryDto;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class SurveyService {
-    private final SurveyRepository surveyRepository;
+    public static final int DEFAULT_CATALOG_PAGE_SIZE = 20;
+    public static final int MAXIMUM_CATALOG_PAGE_SIZE = 100;
 
-    public SurveyService(SurveyRepository surveyRepository) {
+    private final SurveyRepository surveyRepository;
+    private final SurveyStatisticsService surveyStatisticsService;
+    private final SurveyValidationMetrics validationMetrics;
+    private final int maximumQuestionCount;
+
+    public SurveyService(SurveyRepository surveyRepository,
+                         SurveyStatisticsService surveyStatisticsService,
+                         SurveyValidationMetrics validationMetrics,
+                         @Value("${survey.question.maximum-count:1000}") int maximumQuestionCount) {
         this.surveyRepository = surveyRepository;
+        this.surveyStatisticsService = surveyStatisticsService;
+        this.validationMetrics = validationMetrics;
+        this.maximumQuestionCount = maximumQuestionCount;
     }
 
     @Transactional
     public SurveyCreateResponse createSurvey(SurveyCreateRequest surveyRequest) {
-        SurveyValidator.validateRequest(surveyRequest);
+        validationMetrics.validateRequest(surveyRequest, maximumQuestionCount);
 
         List<SurveyQuestionRequest> generateTargetQuestion = surveyRequest.getQuestions();
         List<SurveyQuestion> questions = generateTargetQuestion.stream()
@@ -42,18 +71,21 @@ public class SurveyService {
         Survey survey = Survey.of(surveyRequest.getName(), surveyRequest.getDescription(), questions);
         Survey saved = surveyRepository.save(survey);
 
-        return SurveyCreateResponse.of(saved.getId(), saved.getCreatedAt(), saved.getQuestions());
+        return SurveyCreateResponse.of(saved.getId(), saved.getVersion(), saved.getCreatedAt(), saved.getQuestions());
     }
 
     @Transactional
     public SurveyUpdateResponse updateSurvey(SurveyUpdateRequest surveyRequest) {
-        SurveyValidator.validateRequest(surveyRequest);
+        validationMetrics.validateRequest(surveyRequest, maximumQuestionCount);
 
         String surveyId = surveyRequest.getId();
         Survey survey = surveyRepository.findById(surveyId);
 
         survey.updateSurveyNameAndDesc(surveyRequest.getName(), surveyRequest.getDescription());
 
+        // 수정/삭제 대상은 질문 ID 로 한 번 만든 Map 에서 찾고, 삭제는 모아서 한 번에 반영
+        Map<Long, SurveyQuestion> questionsById = survey.getQuestionsById();
+        Set<Long> questionIdsToRemove = new HashSet<>();
         for (SurveyQuestionRequest questionRequest : surveyRequest.getQuestions()) {
             SurveyQuestionDto questionForUpdate = SurveyQuestionDto.from(questionRequest);
             UpdateType updateType = questionRequest.getUpdateType();
@@ -62,19 +94,14 @@ public class SurveyService {
             }
             switch (updateType) {
                 case MODIFY:
-                    SurveyQuestion existingQuestion = survey.getQuestions().stream()
-                            .filter(question -> question.getId().equals(questionRequest.getQuestionId()))
-                            .findFirst()
-                            .orElseThrow(() -> new SurveyNotFoundException(ServiceError.INQUIRY_QUESTION_NOT_FOUND));
-
+                    SurveyQuestion existingQuestion = findQuestion(questionsById, questionRequest.getQuestionId());
                     existingQuestion.updateFromRequest(questionForUpdate);
                     break;
                 case DELETE:
-                    SurveyQuestion questionToRemove = survey.getQuestions().stream()
-                            .filter(q -> q.getId().equals(questionRequest.getQuestionId()))
-                            .findFirst()
-                            .orElseThrow(() -> new SurveyNotFoundException(ServiceError.INQUIRY_QUESTION_NOT_FOUND));
-                    survey.removeQuestion(questionToRemove);
+                    // 삭제된 질문은 이후 요청에서 다시 찾을 수 없도록 Map 에서도 제거
+                    findQuestion(questionsById, questionRequest.getQuestionId());
+                    questionsById.remove(questionRequest.getQuestionId());
+                    questionIdsToRemove.add(questionRequest.getQuestionId());
                     break;
                 default:
                     SurveyQuestion newQuestion = SurveyQuestion.from(questionForUpdate);
@@ -83,9 +110,126 @@ public class SurveyService {
             }
         }
 
-        Survey saved = surveyRepository.save(survey);
+        survey.removeQuestions(questionIdsToRemove);
+
+        // 응답에 반영된 버전(@Version)과 수정 시각을 돌려주기 위해 즉시 flush
+        long loadedVersion = survey.getVersion();
+        Survey saved = surveyRepository.saveAndFlush(survey);
+
+        // 질문 내용만 바뀐 경우 서베이 행은 update 되지 않으므로, 동시 수정 확인과 정의 교체를 위해 버전을 직접 올린다.
+        long version = saved.getVersion();
+        LocalDateTime updatedAt = saved.getUpdatedAt();
+        if (version == loadedVersion) {
+            updatedAt = LocalDateTime.now();
+            if (!surveyRepository.incrementVersion(surveyId, loadedVersion, updatedAt)) {
+                throw new SurveyUpdateConflictException(ServiceError.UPDATE_VERSION_CONFLICT);
+            }
+            version = loadedVersion + 1;
+        }
+
+        // 수정된 서베이로 응답을 검증하도록 새 버전의 정의를 커밋 후 게시
+        surveyRepository.publishDefinition(SurveyDefinition.from(saved, version));
+
+        return SurveyUpdateResponse.of(saved.getId(), version, updatedAt, saved.getQuestions());
+
+    }
+
+    /*
+     * 서베이 제목/설명 부분 수정. 질문/옵션을 읽지 않고 버전 조건부 update 한 번으로 처리한다.
+     * (응답 검증용 정의에는 제목/설명이 없으므로 캐시는 유지)
+     * */
+    @Transactional
+    public SurveyPatchResponse patchSurvey(String surveyId, SurveyPatchRequest patchRequest) {
+        String name = StringUtils.isBlank(patchRequest.getName()) ? null : patchRequest.getName();
+        LocalDateTime updatedAt = LocalDateTime.now();
+        if (!surveyRepository.updateNameAndDescription(surveyId, patchRequest.getVersion(), name,
+                patchRequest.isDescriptionPresent(), patchRequest.getDescription(), updatedAt)) {
+            throw versionConflictOrNotFound(surveyId);
+        }
+
+        return SurveyPatchResponse.of(surveyId, patchRequest.getVersion() + 1, updatedAt);
+    }
+
+    /*
+     * 질문 하나의 부분 수정. 서베이 버전을 먼저 올려 동시 수정과 충돌을 확인한 뒤 대상 질문만 읽어 수정한다.
+     * */
+    @Transactional
+    public SurveyPatchResponse patchSurveyQuestion(String surveyId, Long questionId, SurveyQuestionPatchRequest patchRequest) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        if (!surveyRepository.incrementVersion(surveyId, patchRequest.getVersion(), updatedAt)) {
+            throw versionConflictOrNotFound(surveyId);
+        }
+
+        SurveyQuestion question = surveyRepository.findQuestion(surveyId, questionId);
+        question.patch(patchRequest.getQuestion(), patchRequest.getDescription(), patchRequest.getRequired());
+        // 새 revision ID 를 정의에 담기 위해 flush
+        surveyRepository.saveQuestionAndFlush(question);
 
-        return SurveyUpdateResponse.of(saved.getId(), saved.getUpdatedAt(), saved.getQuestions());
+        long version = patchRequest.getVersion() + 1;
+        surveyRepository.publishDefinition(patchedDefinition(surveyId, patchRequest.getVersion(), question, version));
 
+        return SurveyPatchResponse.of(surveyId, version, updatedAt);
+    }
+
+    /*
+     * 게시된 정의가 수정 직전 버전이면 바뀐 질문만 교체한 정의를 만들고,
+     * 아니면 (캐시에 없거나 다른 수정이 있었던 경우) 서베이 버전 행을 잠근 상태에서 전체를 다시 읽어 만든다.
+     * */
+    private SurveyDefinition patchedDefinition(String surveyId, long previousVersion, SurveyQuestion question, long version) {
+        SurveyDefinition published = surveyRepository.findPublishedDefinition(surveyId);
+        if (published != null && published.getVersion() == previousVersion) {
+            return published.withQuestion(SurveyQuestionDefinition.from(question), version);
+        }
+        return SurveyDefinition.from(surveyRepository.findById(surveyId), version);
+    }
+
+    /*
+     * 서베이 목록 (최근 생성 순), 생성 시각/ID 커서 기준 keyset 페이지로 조회하여 페이지 위치와 관계없이 같은 비용으로 처리
+     * */
+    @Transactional(readOnly = true)
+    public SurveyCatalogResponse getSurveyCatalog(String cursor, Integer size) {
+        SurveyCatalogCursor catalogCursor = StringUtils.isBlank(cursor) ? null : SurveyCatalogCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건을 더 조회
+        int pageSize = resolveCatalogPageSize(size);
+        List<SurveySummaryDto> fetchedSummaries = catalogCursor == null
+                ? surveyRepository.findSummaryPage(null, null, pageSize + 1)
+                : surveyRepository.findSummaryPage(catalogCursor.createdAt(), catalogCursor.surveyId(), pageSize + 1);
+
+        boolean hasNext = fetchedSummaries.size() > pageSize;
+        List<SurveySummaryDto> pagedSummaries = hasNext ? fetchedSummaries.subList(0, pageSize) : fetchedSummaries;
+
+        List<SurveySummaryResponse> surveys = pagedSummaries.stream()
+                .map(summary -> SurveySummaryResponse.of(summary, surveyStatisticsService.getPendingAnswerCount(summary.surveyId())))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            SurveySummaryDto last = pagedSummaries.getLast();
+            nextCursor = new SurveyCatalogCursor(last.createdAt(), last.surveyId()).encode();
+        }
+        return new SurveyCatalogResponse(surveys, nextCursor);
+    }
+
+    private static int resolveCatalogPageSize(Integer requestedSize) {
+        if (requestedSize == null || requestedSize < 1) {
+            return DEFAULT_CATALOG_PAGE_SIZE;
+        }
+        return Math.min(requestedSize, MAXIMUM_CATALOG_PAGE_SIZE);
+    }
+
+    private SurveyServiceException versionConflictOrNotFound(String surveyId) {
+        if (!surveyRepository.existsById(surveyId)) {
+            return new SurveyNotFoundException(ServiceError.INQUIRY_SURVEY_NOT_FOUND);
+        }
+        return new SurveyUpdateConflictException(ServiceError.UPDATE_VERSION_CONFLICT);
+    }
+
+    private static SurveyQuestion findQuestion(Map<Long, SurveyQuestion> questionsById, Long questionId) {
+        SurveyQuestion question = questionsById.get(questionId);
+        if (question == null) {
+            throw new SurveyNotFoundException(ServiceError.INQUIRY_QUESTION_NOT_FOUND);
+        }
+        return question;
     }
 }
@@ -0,0 +1,182 @@
+package net.gentledot.survey.application.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.gentledot.survey.application.service.in.model.response.SurveyOptionStatisticResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyQuestionStatisticResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyStatisticsResponse;
+import net.gentledot.survey.application.service.out.SurveyRepository;
+import net.gentledot.survey.application.service.out.SurveyStatisticsRepository;
+import net.gentledot.survey.application.service.statistics.OptionCountKey;
+import net.gentledot.survey.application.service.statistics.SurveyAnswerSubmittedEvent;
+import net.gentledot.survey.application.service.statistics.SurveyOptionCountAccumulator;
+import net.gentledot.survey.domain.exception.ServiceError;
+import net.gentledot.survey.domain.exception.SurveyNotFoundException;
+import net.gentledot.survey.domain.statistics.SurveyOptionStatistic;
+import net.gentledot.survey.domain.surveyanswer.dto.SubmitSurveyAnswerDto;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.definition.SurveyQuestionDefinition;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class SurveyStatisticsService {
+    private final SurveyRepository surveyRepository;
+    private final SurveyStatisticsRepository surveyStatisticsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SurveyOptionCountAccumulator accumulator = new SurveyOptionCountAccumulator();
+    // 아직 서베이 answer_count 컬럼에 반영되지 않은 응답 수
+    private final ConcurrentMap<String, Long> pendingAnswerCounts = new ConcurrentHashMap<>();
+    // 꺼내어 반영 중인 (아직 커밋되지 않은) 응답 수, 반영이 커밋될 때까지 목록 조회에 포함
+    private final ConcurrentMap<String, Long> flushingAnswerCounts = new ConcurrentHashMap<>();
+
+    public SurveyStatisticsService(SurveyRepository surveyRepository, SurveyStatisticsRepository surveyStatisticsRepository, TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher) {
+        this.surveyRepository = surveyRepository;
+        this.surveyStatisticsRepository = surveyStatisticsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /*
+     * 제출된 응답의 옵션 선택 횟수와 서베이 응답 수를 누적하고, 실시간 결과 구독자에게 전달할 제출 이벤트를 발행한다.
+     * 제출 트랜잭션 안에서 호출되며, 커밋된 경우에만 누적/발행되므로 롤백된 응답은 집계되지 않는다.
+     * 통계 행(row)과 서베이 응답 수 갱신은 제출 트랜잭션 밖에서 주기적으로 반영되어 인기 서베이의 행 잠금 경합을 피한다.
+     * */
+    public void recordSubmission(SurveyDefinition survey, List<SubmitSurveyAnswerDto> answers) {
+        SurveyAnswerSubmittedEvent event = new SurveyAnswerSubmittedEvent(survey.getSurveyId(), collectSelectedOptions(survey, answers));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applySubmission(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applySubmission(event);
+            }
+        });
+    }
+
+    private void applySubmission(SurveyAnswerSubmittedEvent event) {
+        accumulator.addAll(event.optionDeltas());
+        pendingAnswerCounts.merge(event.surveyId(), 1L, Long::sum);
+        eventPublisher.publishEvent(event);
+    }
+
+    @Transactional(readOnly = true)
+    public SurveyStatisticsResponse getStatistics(String surveyId) {
+        if (!surveyRepository.existsById(surveyId)) {
+            throw new SurveyNotFoundException(ServiceError.INQUIRY_SURVEY_NOT_FOUND);
+        }
+
+        // DB에 반영된 횟수와 아직 반영되지 않은 증가분을 합산
+        Map<OptionCountKey, Long> counts = new LinkedHashMap<>();
+        for (SurveyOptionStatistic statistic : surveyStatisticsRepository.findAllBySurveyId(surveyId)) {
+            OptionCountKey key = new OptionCountKey(statistic.getSurveyId(), statistic.getQuestionId(), statistic.getOptionText());
+            counts.put(key, statistic.getAnswerCount());
+        }
+        accumulator.pendingOf(surveyId).forEach((key, delta) -> counts.merge(key, delta, Long::sum));
+
+        Map<Long, List<SurveyOptionStatisticResponse>> optionsByQuestion = new LinkedHashMap<>();
+        counts.forEach((key, count) -> optionsByQuestion
+                .computeIfAbsent(key.questionId(), questionId -> new ArrayList<>())
+                .add(new SurveyOptionStatisticResponse(key.optionText(), count)));
+
+        List<SurveyQuestionStatisticResponse> questions = optionsByQuestion.entrySet().stream()
+                .map(entry -> new SurveyQuestionStatisticResponse(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+
+        return new SurveyStatisticsResponse(surveyId, questions);
+    }
+
+    // 서베이 목록의 응답 수는 DB에 반영된 값에 이 증가분을 더해 보여준다.
+    public long getPendingAnswerCount(String surveyId) {
+        return pendingAnswerCounts.getOrDefault(surveyId, 0L) + flushingAnswerCounts.getOrDefault(surveyId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${survey.statistics.flush-interval-ms:1000}")
+    public void flushPendingCounts() {
+        Map<OptionCountKey, Long> drained = accumulator.drain();
+        Map<String, Long> drainedAnswerCounts = drainAnswerCounts();
+        if (drained.isEmpty() && drainedAnswerCounts.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                drained.forEach((key, delta) ->
+                        surveyStatisticsRepository.increaseOptionCount(key.surveyId(), key.questionId(), key.optionText(), delta));
+                drainedAnswerCounts.forEach(surveyRepository::increaseAnswerCount);
+            });
+        } catch (RuntimeException e) {
+            // 반영에 실패한 증가분은 유실되지 않도록 다시 누적하고 다음 주기에 재시도
+            log.warn("=== 서베이 통계 반영 실패, 다음 주기에 재시도 ===", e);
+            accumulator.addAll(drained);
+            drainedAnswerCounts.forEach((surveyId, delta) -> pendingAnswerCounts.merge(surveyId, delta, Long::sum));
+        } finally {
+            drainedAnswerCounts.forEach((surveyId, delta) ->
+                    flushingAnswerCounts.computeIfPresent(surveyId, (id, count) -> count - delta == 0 ? null : count - delta));
+        }
+    }
+
+    /*
+     * 누적된 응답 수를 꺼내면서 서베이 키를 제거한다. 동시에 들어온 증가분은 다음 주기에 포함된다.
+     * 꺼낸 응답 수는 반영 중 응답 수로 옮겨, 커밋 전까지 목록 조회에서 응답 수가 줄어 보이지 않도록 한다.
+     * */
+    private Map<String, Long> drainAnswerCounts() {
+        Map<String, Long> drained = new HashMap<>();
+        for (String surveyId : pendingAnswerCounts.keySet()) {
+            pendingAnswerCounts.computeIfPresent(surveyId, (id, count) -> {
+                if (count != 0) {
+                    drained.put(id, count);
+                    flushingAnswerCounts.merge(id, count, Long::sum);
+                }
+                return null;
+            });
+        }
+        return drained;
+    }
+
+    // 아직 반영되지 않은 증가분이 남아 있는 서베이 수
+    public int getPendingSurveyCount() {
+        return pendingAnswerCounts.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingCounts();
+    }
+
+    private Map<OptionCountKey, Long> collectSelectedOptions(SurveyDefinition survey, List<SubmitSurveyAnswerDto> answers) {
+        Map<OptionCountKey, Long> deltas = new HashMap<>();
+        for (SubmitSurveyAnswerDto answer : answers) {
+            SurveyQuestionDefinition question = survey.getQuestion(answer.getQuestionId());
+            if (question == null || !question.isSelectable() || answer.getAnswer() == null) {
+                continue;
+            }
+
+            answer.getAnswer().stream()
+                    .filter(question::hasOption)
+                    .distinct()
+                    .forEach(optionText -> deltas.merge(new OptionCountKey(survey.getSurveyId(), question.getId(), optionText), 1L, Long::sum));
+        }
+        return deltas;
+    }
+}
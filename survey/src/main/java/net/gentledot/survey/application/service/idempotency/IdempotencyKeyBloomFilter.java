@@ -0,0 +1,75 @@
+package net.gentledot.survey.application.service.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * 처리된 적이 없는 Idempotency-Key 를 DB 조회 없이 걸러내기 위한 Bloom filter.
+ * mightContain 이 false 이면 처음 보는 키이고, true 이면 DB 에서 확인해야 한다.
+ * 비트 배열은 AtomicLongArray 로 관리하여 잠금 없이 동시에 갱신한다.
+ * */
+public class IdempotencyKeyBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public IdempotencyKeyBloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        long optimalBitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (optimalBitSize + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String key) {
+        long hash = hash64(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = indexOf(hash1, hash2, i);
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+            bits.accumulateAndGet(wordIndex, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = indexOf(hash1, hash2, i);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // double hashing (Kirsch-Mitzenmacher) 으로 k 개의 해시 위치 생성
+    private long indexOf(int hash1, int hash2, int i) {
+        int combined = hash1 + i * hash2;
+        if (combined < 0) {
+            combined = ~combined;
+        }
+        return combined % bitSize;
+    }
+
+    // FNV-1a 64bit + murmur3 finalizer
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb34fe1a85ec5L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
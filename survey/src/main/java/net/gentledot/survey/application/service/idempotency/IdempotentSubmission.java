@@ -0,0 +1,15 @@
+package net.gentledot.survey.application.service.idempotency;
+
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerIdempotency;
+
+import java.time.LocalDateTime;
+
+/*
+ * Idempotency-Key 로 처리된 제출 결과, 같은 키로 다시 요청하면 이 결과로 응답한다.
+ * */
+public record IdempotentSubmission(Long answerId, String receiptId, LocalDateTime acceptedAt) {
+
+    public static IdempotentSubmission from(SurveyAnswerIdempotency idempotency) {
+        return new IdempotentSubmission(idempotency.getAnswerId(), idempotency.getReceiptId(), idempotency.getCreatedAt());
+    }
+}
@@ -0,0 +1,182 @@
+package net.gentledot.survey.application.service.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.gentledot.survey.application.service.out.SurveyAnswerIdempotencyRepository;
+import net.gentledot.survey.domain.exception.ServiceError;
+import net.gentledot.survey.domain.exception.SurveySubmitValidationException;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerIdempotency;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 응답 제출 Idempotency-Key 중복 확인.
+ * 최근 처리한 키는 크기 제한이 있는 메모리 캐시에서 바로 응답하고,
+ * 캐시에 없는 키는 Bloom filter 로 처음 보는 키인지 확인하여 DB 조회를 생략한다.
+ * Bloom filter 가 "있을 수도 있음" 으로 판단한 경우에만 유니크 제약 테이블을 조회한다.
+ * */
+@Slf4j
+@Service
+public class SurveyAnswerIdempotencyService {
+    public static final String LOOKUP_METRIC = "survey.answer.idempotency.lookups";
+    public static final String HIT_RATIO_METRIC = "survey.answer.idempotency.hit.ratio";
+
+    private static final String IDEMPOTENCY_CACHE = "surveyAnswerIdempotency";
+    private static final double BLOOM_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final SurveyAnswerIdempotencyRepository idempotencyRepository;
+    private final Cache<String, IdempotentSubmission> recentSubmissions;
+    private final IdempotencyKeyBloomFilter bloomFilter;
+    private final int bloomExpectedKeys;
+    private final int bloomWarmUpHours;
+
+    private final Counter cacheHitCounter;
+    private final Counter databaseHitCounter;
+    private final Counter bloomMissCounter;
+    private final Counter databaseMissCounter;
+
+    public SurveyAnswerIdempotencyService(SurveyAnswerIdempotencyRepository idempotencyRepository,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${survey.submission.idempotency.cache-size:10000}") int cacheSize,
+                                          @Value("${survey.submission.idempotency.cache-expire-minutes:60}") int cacheExpireMinutes,
+                                          @Value("${survey.submission.idempotency.bloom-expected-keys:1000000}") int bloomExpectedKeys,
+                                          @Value("${survey.submission.idempotency.bloom-warm-up-hours:24}") int bloomWarmUpHours) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.recentSubmissions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheExpireMinutes))
+                .recordStats()
+                .build();
+        this.bloomFilter = new IdempotencyKeyBloomFilter(bloomExpectedKeys, BLOOM_FALSE_POSITIVE_PROBABILITY);
+        this.bloomExpectedKeys = bloomExpectedKeys;
+        this.bloomWarmUpHours = bloomWarmUpHours;
+
+        this.cacheHitCounter = lookupCounter(meterRegistry, "cache_hit");
+        this.databaseHitCounter = lookupCounter(meterRegistry, "database_hit");
+        this.bloomMissCounter = lookupCounter(meterRegistry, "bloom_miss");
+        this.databaseMissCounter = lookupCounter(meterRegistry, "database_miss");
+        Gauge.builder(HIT_RATIO_METRIC, this, SurveyAnswerIdempotencyService::getDedupeHitRatio)
+                .description("Idempotency-Key 조회 중 이미 처리된 제출로 확인된 비율")
+                .register(meterRegistry);
+        // Spring 캐시 지표(cache.manager, name 태그)와 태그 구성을 맞춰야 Prometheus 에서 같은 이름의 지표로 등록된다.
+        CaffeineCacheMetrics.monitor(meterRegistry, recentSubmissions, IDEMPOTENCY_CACHE,
+                "cache.manager", SurveyAnswerIdempotencyService.class.getSimpleName(), "name", IDEMPOTENCY_CACHE);
+    }
+
+    /*
+     * 재시작 직후에도 최근 키의 DB 조회가 생략되지 않도록 Bloom filter 를 채운다.
+     * */
+    @PostConstruct
+    public void warmUpBloomFilter() {
+        List<String[]> recentKeys = idempotencyRepository.findRecentKeys(LocalDateTime.now().minusHours(bloomWarmUpHours), bloomExpectedKeys);
+        recentKeys.forEach(key -> bloomFilter.put(toCacheKey(key[0], key[1])));
+
+        if (!recentKeys.isEmpty()) {
+            log.info("=== Idempotency-Key {}건으로 Bloom filter 를 채웠습니다 ===", recentKeys.size());
+        }
+    }
+
+    public static void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null && idempotencyKey.length() > SurveyAnswerIdempotency.MAXIMUM_KEY_LENGTH) {
+            throw new SurveySubmitValidationException(ServiceError.SUBMIT_INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+
+    public static boolean hasIdempotencyKey(String idempotencyKey) {
+        return StringUtils.isNotBlank(idempotencyKey);
+    }
+
+    /*
+     * 같은 키로 처리된 제출이 있으면 반환한다. (캐시 -> Bloom filter -> DB 순서로 확인)
+     * */
+    public Optional<IdempotentSubmission> findPreviousSubmission(String surveyId, String idempotencyKey) {
+        String cacheKey = toCacheKey(surveyId, idempotencyKey);
+
+        IdempotentSubmission cached = recentSubmissions.getIfPresent(cacheKey);
+        if (cached != null) {
+            cacheHitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        if (!bloomFilter.mightContain(cacheKey)) {
+            bloomMissCounter.increment();
+            return Optional.empty();
+        }
+
+        Optional<IdempotentSubmission> persisted = findPersistedSubmission(surveyId, idempotencyKey);
+        if (persisted.isPresent()) {
+            databaseHitCounter.increment();
+        } else {
+            databaseMissCounter.increment();
+        }
+        return persisted;
+    }
+
+    /*
+     * Bloom filter 를 거치지 않고 DB 에서 확인한다. (다른 인스턴스가 먼저 저장한 경우 등)
+     * */
+    public Optional<IdempotentSubmission> findPersistedSubmission(String surveyId, String idempotencyKey) {
+        Optional<IdempotentSubmission> persisted = idempotencyRepository.findBySurveyIdAndIdempotencyKey(surveyId, idempotencyKey)
+                .map(IdempotentSubmission::from);
+        persisted.ifPresent(submission -> remember(surveyId, idempotencyKey, submission));
+        return persisted;
+    }
+
+    /*
+     * 비동기 제출에서 DB 반영 전에 키를 선점한다.
+     * 이미 같은 키로 접수된 제출이 있으면 해당 제출을, 선점에 성공하면 null 을 반환한다.
+     * */
+    public IdempotentSubmission reserve(String surveyId, String idempotencyKey, IdempotentSubmission submission) {
+        String cacheKey = toCacheKey(surveyId, idempotencyKey);
+        IdempotentSubmission previous = recentSubmissions.asMap().putIfAbsent(cacheKey, submission);
+        if (previous == null) {
+            bloomFilter.put(cacheKey);
+        }
+        return previous;
+    }
+
+    public void release(String surveyId, String idempotencyKey, IdempotentSubmission submission) {
+        recentSubmissions.asMap().remove(toCacheKey(surveyId, idempotencyKey), submission);
+    }
+
+    // 반영하지 못한 비동기 제출의 선점을 해제 (이후 다른 접수로 바뀐 키는 유지)
+    public void releaseReceipt(String surveyId, String idempotencyKey, String receiptId) {
+        recentSubmissions.asMap().computeIfPresent(toCacheKey(surveyId, idempotencyKey),
+                (cacheKey, submission) -> receiptId.equals(submission.receiptId()) ? null : submission);
+    }
+
+    public void remember(String surveyId, String idempotencyKey, IdempotentSubmission submission) {
+        String cacheKey = toCacheKey(surveyId, idempotencyKey);
+        recentSubmissions.put(cacheKey, submission);
+        bloomFilter.put(cacheKey);
+    }
+
+    public double getDedupeHitRatio() {
+        double hits = cacheHitCounter.count() + databaseHitCounter.count();
+        double lookups = hits + bloomMissCounter.count() + databaseMissCounter.count();
+        return lookups == 0 ? 0 : hits / lookups;
+    }
+
+    private static String toCacheKey(String surveyId, String idempotencyKey) {
+        return surveyId + ":" + idempotencyKey;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(LOOKUP_METRIC)
+                .description("Idempotency-Key 조회 결과별 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
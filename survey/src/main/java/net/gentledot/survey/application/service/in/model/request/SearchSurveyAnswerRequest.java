@@ -13,8 +13,14 @@ public class SearchSurveyAnswerRequest {
     private String surveyId;
     private String questionName;
     private String answerValue;
+    private Long cursor;
+    private Integer size;
 
     public static SearchSurveyAnswerRequest fromRequest(String surveyId, String questionName, String answerValue) {
-        return new SearchSurveyAnswerRequest(surveyId, questionName, answerValue);
+        return fromRequest(surveyId, questionName, answerValue, null, null);
+    }
+
+    public static SearchSurveyAnswerRequest fromRequest(String surveyId, String questionName, String answerValue, Long cursor, Integer size) {
+        return new SearchSurveyAnswerRequest(surveyId, questionName, answerValue, cursor, size);
     }
 }
@@ -0,0 +1,35 @@
+package net.gentledot.survey.application.service.in.model.request;
+
+import net.gentledot.survey.domain.exception.ServiceError;
+import net.gentledot.survey.domain.exception.SurveyInquiryException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/*
+ * 서베이 목록의 keyset 페이지 커서 (이전 페이지 마지막 서베이의 생성 시각과 ID)
+ * 클라이언트에는 내용을 해석하지 않도록 Base64(URL-safe) 문자열로 전달한다.
+ * */
+public record SurveyCatalogCursor(LocalDateTime createdAt, String surveyId) {
+    private static final String DELIMITER = ",";
+
+    public String encode() {
+        String value = createdAt + DELIMITER + surveyId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SurveyCatalogCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = value.indexOf(DELIMITER);
+            if (delimiterIndex < 0 || delimiterIndex == value.length() - 1) {
+                throw new SurveyInquiryException(ServiceError.INQUIRY_INVALID_CURSOR);
+            }
+            return new SurveyCatalogCursor(LocalDateTime.parse(value.substring(0, delimiterIndex)), value.substring(delimiterIndex + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new SurveyInquiryException(ServiceError.INQUIRY_INVALID_CURSOR, e);
+        }
+    }
+}
@@ -48,6 +48,7 @@ public class SurveyCreateRequest implements SurveyRequest {
                     }
                 ]
             """)
-    @Size(min = 1, max = 10, message = "서베이 항목은 1개에서 최대 10개까지 포함할 수 있습니다.")
+    // 최대 질문 수는 설정(survey.question.maximum-count)에 따라 서비스에서 검증
+    @Size(min = 1, message = "서베이 항목은 1개 이상 포함해야 합니다.")
     private List<SurveyQuestionRequest> questions;
 }
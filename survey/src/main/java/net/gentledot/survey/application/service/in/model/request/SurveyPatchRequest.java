@@ -0,0 +1,47 @@
+package net.gentledot.survey.application.service.in.model.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Schema(description = "서베이 부분 수정 요청 (입력한 항목만 수정)")
+@Builder
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SurveyPatchRequest {
+    @Schema(description = "수정 대상 서베이 버전 (생성/수정 응답의 version)", example = "0")
+    @NotNull(message = "부분 수정 요청 시 버전은 필수 입력입니다.")
+    private Long version;
+
+    @Schema(description = "서베이 제목", example = "Patched Survey")
+    private String name;
+
+    @Schema(description = "서베이 설명 (null 을 입력하면 설명을 지움)", example = "Patched Description", nullable = true)
+    private String description;
+
+    // 요청에 description 항목이 있었는지 여부 (생략한 경우와 null 로 지우는 경우를 구분)
+    @JsonIgnore
+    private boolean descriptionPresent;
+
+    @JsonSetter("description")
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionPresent = true;
+    }
+
+    public static class SurveyPatchRequestBuilder {
+        public SurveyPatchRequestBuilder description(String description) {
+            this.description = description;
+            this.descriptionPresent = true;
+            return this;
+        }
+    }
+}
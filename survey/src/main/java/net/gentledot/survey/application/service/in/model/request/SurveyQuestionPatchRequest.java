@@ -0,0 +1,31 @@
+package net.gentledot.survey.application.service.in.model.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import net.gentledot.survey.domain.enums.ItemRequired;
+
+@Schema(description = "서베이 질문 부분 수정 요청 (입력한 항목만 수정, 질문 유형과 옵션은 PUT 으로 수정)")
+@Builder
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SurveyQuestionPatchRequest {
+    @Schema(description = "수정 대상 서베이 버전 (생성/수정 응답의 version)", example = "0")
+    @NotNull(message = "부분 수정 요청 시 버전은 필수 입력입니다.")
+    private Long version;
+
+    @Schema(description = "질문", example = "Patched Question")
+    private String question;
+
+    @Schema(description = "질문 설명", example = "Patched Question Description")
+    private String description;
+
+    @Schema(description = "필수 응답 여부", example = "OPTIONAL")
+    private ItemRequired required;
+}
@@ -0,0 +1,27 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "서베이 응답 일괄 제출 응답")
+public record BulkSubmitSurveyAnswerResponse(
+        @Schema(description = "서베이 ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        String surveyId,
+
+        @Schema(description = "저장된 응답 수", example = "2")
+        int successCount,
+
+        @Schema(description = "검증에 실패한 응답 수", example = "1")
+        int failureCount,
+
+        @Schema(description = "요청 순서(index)별 처리 결과", example = """
+                    [
+                        {"index": 0, "success": true, "answerId": 1, "error": null},
+                        {"index": 1, "success": false, "answerId": null, "error": {"errorCode": "3001", "errorMessage": "제출한 응답의 질문이 확인되지 않습니다."}},
+                        {"index": 2, "success": true, "answerId": 2, "error": null}
+                    ]
+                """)
+        List<BulkSubmitSurveyAnswerResult> results
+) {
+}
@@ -0,0 +1,19 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+import net.gentledot.survey.domain.exception.Error;
+import net.gentledot.survey.domain.exception.ServiceError;
+
+public record BulkSubmitSurveyAnswerResult(
+        int index,
+        boolean success,
+        Long answerId,
+        Error error
+) {
+    public static BulkSubmitSurveyAnswerResult success(int index, Long answerId) {
+        return new BulkSubmitSurveyAnswerResult(index, true, answerId, null);
+    }
+
+    public static BulkSubmitSurveyAnswerResult fail(int index, ServiceError serviceError) {
+        return new BulkSubmitSurveyAnswerResult(index, false, null, new Error(serviceError));
+    }
+}
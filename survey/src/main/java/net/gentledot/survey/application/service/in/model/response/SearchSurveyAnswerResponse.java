@@ -31,6 +31,9 @@ public record SearchSurveyAnswerResponse(
                         }
                     ]
                 """)
-        List<SurveyAnswerValue> answerList
+        List<SurveyAnswerValue> answerList,
+
+        @Schema(description = "다음 페이지 조회 커서 (마지막 페이지인 경우 null)", example = "20")
+        Long nextCursor
 ) {
 }
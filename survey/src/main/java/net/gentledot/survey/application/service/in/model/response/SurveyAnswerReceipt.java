@@ -0,0 +1,18 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "서베이 응답 접수 결과 (비동기 제출)")
+public record SurveyAnswerReceipt(
+        @Schema(description = "접수 ID", example = "5f0c3a52-8f4e-4c1e-9a55-2b1d7c9e6a10")
+        String receiptId,
+
+        @Schema(description = "서베이 ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        String surveyId,
+
+        @Schema(description = "접수 일시", example = "2024-01-01T12:00:00")
+        LocalDateTime acceptedAt
+) {
+}
@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.ToString;
 import net.gentledot.survey.domain.surveyanswer.SurveyAnswerSubmission;
-import net.gentledot.survey.domain.surveyanswer.SurveyQuestionAnswerSnapshot;
 import net.gentledot.survey.domain.surveyanswer.SurveyQuestionSnapshot;
 import org.apache.commons.lang3.StringUtils;
 
@@ -36,10 +35,9 @@ public class SurveyAnswerValue {
     }
 
     private static SurveyAnswerItem generateSurveyAnswerItem(SurveyAnswerSubmission answerSubmission) {
+        // 질문 항목과 선택 응답은 이 시점에 응답이 참조하는 질문 revision 으로 복원
         SurveyQuestionSnapshot surveyQuestionSnapshot = answerSubmission.getSurveyQuestionSnapshot();
-        SurveyQuestionAnswerSnapshot surveyQuestionAnswerSnapshot = answerSubmission.getSurveyQuestionAnswerSnapshot();
-        String answer = surveyQuestionAnswerSnapshot.getAnswer(surveyQuestionSnapshot.getAnswerType());
-        return new SurveyAnswerItem(surveyQuestionSnapshot.getItemName(), answer);
+        return new SurveyAnswerItem(surveyQuestionSnapshot.getItemName(), answerSubmission.getAnswer());
     }
 
     private static boolean filterAnswer(SurveyAnswerItem answer, String questionName, String answerValue) {
@@ -0,0 +1,15 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "서베이 목록 조회 응답")
+public record SurveyCatalogResponse(
+        @Schema(description = "서베이 목록 (최근 생성 순)")
+        List<SurveySummaryResponse> surveys,
+
+        @Schema(description = "다음 페이지 조회 커서 (마지막 페이지인 경우 null)", example = "MjAyNC0xMS0zMFQxMjowMDowMCwxMjNlNDU2Nw")
+        String nextCursor
+) {
+}
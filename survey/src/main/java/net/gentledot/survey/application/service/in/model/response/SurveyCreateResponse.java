@@ -14,20 +14,22 @@ import java.util.stream.Collectors;
 @Getter
 public final class SurveyCreateResponse {
     private final String surveyId;
+    private final long version;
     @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private final LocalDateTime createdAt;
     private final List<SurveyQuestionResponse> questions;
 
-    private SurveyCreateResponse(String surveyId, LocalDateTime createdAt, List<SurveyQuestionResponse> questions) {
+    private SurveyCreateResponse(String surveyId, long version, LocalDateTime createdAt, List<SurveyQuestionResponse> questions) {
         this.surveyId = surveyId;
+        this.version = version;
         this.createdAt = createdAt;
         this.questions = questions;
     }
 
-    public static SurveyCreateResponse of(String surveyId, LocalDateTime createdAt, List<SurveyQuestion> questions) {
+    public static SurveyCreateResponse of(String surveyId, long version, LocalDateTime createdAt, List<SurveyQuestion> questions) {
         List<SurveyQuestionResponse> surveyQuestionResponses = questions.stream()
                 .map(SurveyQuestionResponse::from)
                 .collect(Collectors.toList());
-        return new SurveyCreateResponse(surveyId, createdAt, surveyQuestionResponses);
+        return new SurveyCreateResponse(surveyId, version, createdAt, surveyQuestionResponses);
     }
 }
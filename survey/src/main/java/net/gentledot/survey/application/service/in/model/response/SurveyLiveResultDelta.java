@@ -0,0 +1,28 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "서베이 실시간 결과 증가분 (전송 주기 동안 제출된 응답을 합산)")
+public record SurveyLiveResultDelta(
+        @Schema(description = "서베이 ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        String surveyId,
+
+        @Schema(description = "새로 제출된 응답 수", example = "3")
+        long newAnswerCount,
+
+        @Schema(description = "질문별 옵션 선택 횟수 증가분", example = """
+                    [
+                        {
+                            "questionId": 2,
+                            "options": [
+                                {"option": "좋아요", "count": 2},
+                                {"option": "안좋아요", "count": 1}
+                            ]
+                        }
+                    ]
+                """)
+        List<SurveyQuestionStatisticResponse> questions
+) {
+}
@@ -0,0 +1,7 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+public record SurveyOptionStatisticResponse(
+        String option,
+        long count
+) {
+}
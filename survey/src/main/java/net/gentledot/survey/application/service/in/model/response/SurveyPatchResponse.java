@@ -0,0 +1,27 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@ToString
+@Getter
+public final class SurveyPatchResponse {
+    private final String surveyId;
+    private final long version;
+    @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private final LocalDateTime updatedAt;
+
+    private SurveyPatchResponse(String surveyId, long version, LocalDateTime updatedAt) {
+        this.surveyId = surveyId;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    public static SurveyPatchResponse of(String surveyId, long version, LocalDateTime updatedAt) {
+        return new SurveyPatchResponse(surveyId, version, updatedAt);
+    }
+}
@@ -0,0 +1,9 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+import java.util.List;
+
+public record SurveyQuestionStatisticResponse(
+        Long questionId,
+        List<SurveyOptionStatisticResponse> options
+) {
+}
@@ -0,0 +1,25 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "서베이 선택형 질문 통계 응답")
+public record SurveyStatisticsResponse(
+        @Schema(description = "서베이 ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        String surveyId,
+
+        @Schema(description = "질문별 옵션 선택 횟수", example = """
+                    [
+                        {
+                            "questionId": 2,
+                            "options": [
+                                {"option": "좋아요", "count": 12},
+                                {"option": "안좋아요", "count": 3}
+                            ]
+                        }
+                    ]
+                """)
+        List<SurveyQuestionStatisticResponse> questions
+) {
+}
@@ -0,0 +1,36 @@
+package net.gentledot.survey.application.service.in.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import io.swagger.v3.oas.annotations.media.Schema;
+import net.gentledot.survey.domain.surveybase.dto.SurveySummaryDto;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "서베이 목록 항목")
+public record SurveySummaryResponse(
+        @Schema(description = "서베이 ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        String surveyId,
+
+        @Schema(description = "서베이 이름", example = "나만의 설문")
+        String name,
+
+        @Schema(description = "질문 수", example = "2")
+        long questionCount,
+
+        @Schema(description = "제출된 응답 수", example = "15")
+        long answerCount,
+
+        @Schema(description = "서베이 버전 (부분 수정 요청 시 사용)", example = "0")
+        long version,
+
+        @Schema(description = "수정 시각", example = "2024-11-30 12:00:00")
+        @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime updatedAt
+) {
+    // 응답 수는 DB에 반영된 값과 아직 반영되지 않은 증가분의 합
+    public static SurveySummaryResponse of(SurveySummaryDto summary, long pendingAnswerCount) {
+        return new SurveySummaryResponse(summary.surveyId(), summary.name(), summary.questionCount(), summary.answerCount() + pendingAnswerCount,
+                summary.version(), summary.updatedAt());
+    }
+}
@@ -14,20 +14,22 @@ import java.util.stream.Collectors;
 @Getter
 public final class SurveyUpdateResponse {
     private final String surveyId;
+    private final long version;
     @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private final LocalDateTime updatedAt;
     private final List<SurveyQuestionResponse> questions;
 
-    private SurveyUpdateResponse(String surveyId, LocalDateTime updatedAt, List<SurveyQuestionResponse> questions) {
+    private SurveyUpdateResponse(String surveyId, long version, LocalDateTime updatedAt, List<SurveyQuestionResponse> questions) {
         this.surveyId = surveyId;
+        this.version = version;
         this.updatedAt = updatedAt;
         this.questions = questions;
     }
 
-    public static SurveyUpdateResponse of(String surveyId, LocalDateTime updatedAt, List<SurveyQuestion> questions) {
+    public static SurveyUpdateResponse of(String surveyId, long version, LocalDateTime updatedAt, List<SurveyQuestion> questions) {
         List<SurveyQuestionResponse> surveyQuestionResponses = questions.stream()
                 .map(SurveyQuestionResponse::from)
                 .collect(Collectors.toList());
-        return new SurveyUpdateResponse(surveyId, updatedAt, surveyQuestionResponses);
+        return new SurveyUpdateResponse(surveyId, version, updatedAt, surveyQuestionResponses);
     }
 }
@@ -0,0 +1,82 @@
+package net.gentledot.survey.application.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.in.model.request.SurveyRequest;
+import net.gentledot.survey.application.service.util.SurveyValidator;
+import net.gentledot.survey.domain.exception.ServiceError;
+import net.gentledot.survey.domain.exception.SurveyServiceException;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * SurveyValidator 검증 시간과 ServiceError 별 검증 실패 횟수 기록.
+ * target 태그로 응답 검증(answer)과 서베이 생성/수정 요청 검증(request)을 구분한다.
+ * */
+@Component
+public class SurveyValidationMetrics {
+    public static final String VALIDATION_TIMER = "survey.validation";
+    public static final String VALIDATION_FAILURE_COUNTER = "survey.validation.failures";
+
+    private static final String ANSWER_TARGET = "answer";
+    private static final String REQUEST_TARGET = "request";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer answerValidationTimer;
+    private final Timer requestValidationTimer;
+    private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
+
+    public SurveyValidationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.answerValidationTimer = validationTimer(meterRegistry, ANSWER_TARGET);
+        this.requestValidationTimer = validationTimer(meterRegistry, REQUEST_TARGET);
+    }
+
+    public void validateSurveyAnswers(SurveyDefinition definition, List<SubmitSurveyAnswer> answers) {
+        long startedAt = System.nanoTime();
+        try {
+            SurveyValidator.validateSurveyAnswers(definition, answers);
+        } catch (SurveyServiceException e) {
+            failureCounter(ANSWER_TARGET, e.getServiceError()).increment();
+            throw e;
+        } finally {
+            answerValidationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void validateRequest(SurveyRequest surveyRequest, int maximumQuestionCount) {
+        long startedAt = System.nanoTime();
+        try {
+            SurveyValidator.validateRequest(surveyRequest, maximumQuestionCount);
+        } catch (SurveyServiceException e) {
+            failureCounter(REQUEST_TARGET, e.getServiceError()).increment();
+            throw e;
+        } finally {
+            requestValidationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Counter failureCounter(String target, ServiceError serviceError) {
+        return failureCounters.computeIfAbsent(target + ":" + serviceError.name(), key -> Counter.builder(VALIDATION_FAILURE_COUNTER)
+                .description("검증 실패 횟수 (ServiceError 별)")
+                .tag("target", target)
+                .tag("error", serviceError.name())
+                .tag("code", serviceError.getCode())
+                .register(meterRegistry));
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String target) {
+        return Timer.builder(VALIDATION_TIMER)
+                .description("SurveyValidator 검증 소요 시간")
+                .tag("target", target)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
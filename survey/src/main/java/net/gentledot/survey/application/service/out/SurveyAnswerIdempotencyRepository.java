@@ -0,0 +1,20 @@
+package net.gentledot.survey.application.service.out;
+
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerIdempotency;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SurveyAnswerIdempotencyRepository {
+    Optional<SurveyAnswerIdempotency> findBySurveyIdAndIdempotencyKey(String surveyId, String idempotencyKey);
+
+    List<SurveyAnswerIdempotency> findAllByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    SurveyAnswerIdempotency saveAndFlush(SurveyAnswerIdempotency idempotency);
+
+    List<SurveyAnswerIdempotency> saveAll(List<SurveyAnswerIdempotency> idempotencies);
+
+    List<String[]> findRecentKeys(LocalDateTime since, int limit);
+}
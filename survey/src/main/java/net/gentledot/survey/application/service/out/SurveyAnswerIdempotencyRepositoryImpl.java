@@ -0,0 +1,49 @@
+package net.gentledot.survey.application.service.out;
+
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerIdempotency;
+import net.gentledot.survey.infra.repository.jpa.SurveyAnswerIdempotencyJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+public class SurveyAnswerIdempotencyRepositoryImpl implements SurveyAnswerIdempotencyRepository {
+    private final SurveyAnswerIdempotencyJpaRepository idempotencyJpaRepository;
+
+    public SurveyAnswerIdempotencyRepositoryImpl(SurveyAnswerIdempotencyJpaRepository idempotencyJpaRepository) {
+        this.idempotencyJpaRepository = idempotencyJpaRepository;
+    }
+
+    @Override
+    public Optional<SurveyAnswerIdempotency> findBySurveyIdAndIdempotencyKey(String surveyId, String idempotencyKey) {
+        return idempotencyJpaRepository.findBySurveyIdAndIdempotencyKey(surveyId, idempotencyKey);
+    }
+
+    @Override
+    public List<SurveyAnswerIdempotency> findAllByIdempotencyKeyIn(Collection<String> idempotencyKeys) {
+        return idempotencyJpaRepository.findAllByIdempotencyKeyIn(idempotencyKeys);
+    }
+
+    @Override
+    public SurveyAnswerIdempotency saveAndFlush(SurveyAnswerIdempotency idempotency) {
+        // 유니크 제약 위반을 커밋 전에 바로 확인하기 위해 flush
+        return idempotencyJpaRepository.saveAndFlush(idempotency);
+    }
+
+    @Override
+    public List<SurveyAnswerIdempotency> saveAll(List<SurveyAnswerIdempotency> idempotencies) {
+        return idempotencyJpaRepository.saveAll(idempotencies);
+    }
+
+    @Override
+    public List<String[]> findRecentKeys(LocalDateTime since, int limit) {
+        return idempotencyJpaRepository.findRecentKeys(since, PageRequest.of(0, limit)).stream()
+                .map(row -> new String[]{(String) row[0], (String) row[1]})
+                .collect(Collectors.toList());
+    }
+}
@@ -2,11 +2,20 @@ package net.gentledot.survey.application.service.out;
 
 
 import net.gentledot.survey.domain.surveyanswer.SurveyAnswer;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerSubmission;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 
 public interface SurveyAnswerRepository {
     SurveyAnswer save(SurveyAnswer surveyAnswer);
 
+    List<SurveyAnswer> saveAll(List<SurveyAnswer> surveyAnswers);
+
     List<SurveyAnswer> findAllBySurveyId(String surveyId);
+
+    List<SurveyAnswer> findPageBySurveyId(String surveyId, String questionName, String answerValue, Long cursor, int limit);
+
+    // 응답 ID 순으로 응답 단위(응답 ID, 제출 항목 목록)로 전달, 전달된 엔티티는 콜백 안에서만 사용해야 함
+    void forEachAnswerBySurveyId(String surveyId, BiConsumer<Long, List<SurveyAnswerSubmission>> answerConsumer);
 }
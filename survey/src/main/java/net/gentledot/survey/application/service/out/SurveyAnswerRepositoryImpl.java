@@ -1,17 +1,30 @@
 package net.gentledot.survey.application.service.out;
 
+import jakarta.persistence.EntityManager;
 import net.gentledot.survey.domain.surveyanswer.SurveyAnswer;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerSubmission;
 import net.gentledot.survey.infra.repository.jpa.SurveyAnswerJpaRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 @Repository
 public class SurveyAnswerRepositoryImpl implements SurveyAnswerRepository {
+    private static final int STREAM_CLEAR_INTERVAL = 500;
+    private static final int SAVE_FLUSH_INTERVAL = 100;
+
     private final SurveyAnswerJpaRepository surveyAnswerJpaRepository;
+    private final EntityManager entityManager;
 
-    public SurveyAnswerRepositoryImpl(SurveyAnswerJpaRepository surveyAnswerJpaRepository) {
+    public SurveyAnswerRepositoryImpl(SurveyAnswerJpaRepository surveyAnswerJpaRepository, EntityManager entityManager) {
         this.surveyAnswerJpaRepository = surveyAnswerJpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -19,8 +32,77 @@ public class SurveyAnswerRepositoryImpl implements SurveyAnswerRepository {
         return surveyAnswerJpaRepository.save(surveyAnswer);
     }
 
+    @Override
+    public List<SurveyAnswer> saveAll(List<SurveyAnswer> surveyAnswers) {
+        // hibernate.jdbc.batch_size 단위로 insert 가 묶이도록 일정 건수마다 flush 후 영속성 컨텍스트를 비움
+        for (int from = 0; from < surveyAnswers.size(); from += SAVE_FLUSH_INTERVAL) {
+            int to = Math.min(from + SAVE_FLUSH_INTERVAL, surveyAnswers.size());
+            surveyAnswers.subList(from, to).forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return surveyAnswers;
+    }
+
     @Override
     public List<SurveyAnswer> findAllBySurveyId(String surveyId) {
         return surveyAnswerJpaRepository.findAllBySurveyId(surveyId);
     }
+
+    @Override
+    public List<SurveyAnswer> findPageBySurveyId(String surveyId, String questionName, String answerValue, Long cursor, int limit) {
+        long lastAnswerId = cursor == null ? 0L : cursor;
+        PageRequest pageRequest = PageRequest.of(0, limit);
+
+        List<Long> answerIds;
+        if (questionName == null && answerValue == null) {
+            answerIds = surveyAnswerJpaRepository.findIdPageBySurveyId(surveyId, lastAnswerId, pageRequest);
+        } else {
+            String answerPattern = answerValue == null ? null : "%" + escapeLikePattern(answerValue) + "%";
+            answerIds = surveyAnswerJpaRepository.findFilteredIdPageBySurveyId(surveyId, questionName, answerPattern, lastAnswerId, pageRequest);
+        }
+
+        if (answerIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return surveyAnswerJpaRepository.findAllWithAnswersByIdIn(answerIds);
+    }
+
+    @Override
+    public void forEachAnswerBySurveyId(String surveyId, BiConsumer<Long, List<SurveyAnswerSubmission>> answerConsumer) {
+        try (Stream<SurveyAnswerSubmission> submissions = surveyAnswerJpaRepository.streamAllBySurveyId(surveyId)) {
+            Iterator<SurveyAnswerSubmission> iterator = submissions.iterator();
+            List<SurveyAnswerSubmission> currentSubmissions = new ArrayList<>();
+            Long currentAnswerId = null;
+            int consumedCount = 0;
+            while (iterator.hasNext()) {
+                SurveyAnswerSubmission submission = iterator.next();
+                Long answerId = submission.getSurveyAnswer().getId();
+                if (currentAnswerId != null && !currentAnswerId.equals(answerId)) {
+                    answerConsumer.accept(currentAnswerId, currentSubmissions);
+                    consumedCount += currentSubmissions.size();
+                    currentSubmissions = new ArrayList<>();
+
+                    // 영속성 컨텍스트에 엔티티가 누적되지 않도록 일정 건수마다 비움
+                    // 지연 로딩(질문 revision 옵션)이 끝난 응답 경계에서만 비워야 함
+                    if (consumedCount >= STREAM_CLEAR_INTERVAL) {
+                        entityManager.clear();
+                        consumedCount = 0;
+                    }
+                }
+                currentAnswerId = answerId;
+                currentSubmissions.add(submission);
+            }
+
+            if (currentAnswerId != null) {
+                answerConsumer.accept(currentAnswerId, currentSubmissions);
+            }
+        }
+    }
+
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
@@ -1,11 +1,39 @@
 package net.gentledot.survey.application.service.out;
 
 import net.gentledot.survey.domain.surveybase.Survey;
+import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.dto.SurveySummaryDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface SurveyRepository {
     Survey findById(String surveyId);
 
     Survey save(Survey survey);
 
+    Survey saveAndFlush(Survey survey);
+
+    boolean updateNameAndDescription(String surveyId, long version, String name, boolean descriptionPresent, String description, LocalDateTime updatedAt);
+
+    boolean incrementVersion(String surveyId, long version, LocalDateTime updatedAt);
+
+    void increaseAnswerCount(String surveyId, long delta);
+
+    SurveyQuestion findQuestion(String surveyId, Long questionId);
+
+    SurveyQuestion saveQuestionAndFlush(SurveyQuestion question);
+
     boolean existsById(String surveyId);
+
+    SurveyDefinition findDefinitionById(String surveyId);
+
+    Survey getReferenceById(String surveyId);
+
+    void publishDefinition(SurveyDefinition definition);
+
+    SurveyDefinition findPublishedDefinition(String surveyId);
+
+    List<SurveySummaryDto> findSummaryPage(LocalDateTime cursorCreatedAt, String cursorSurveyId, int limit);
 }
@@ -2,16 +2,53 @@ package net.gentledot.survey.application.service.out;
 
 import net.gentledot.survey.domain.exception.ServiceError;
 import net.gentledot.survey.domain.exception.SurveyNotFoundException;
+import net.gentledot.survey.domain.exception.SurveyUpdateInProgressException;
 import net.gentledot.survey.domain.surveybase.Survey;
+import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.dto.SurveySummaryDto;
+import net.gentledot.survey.infra.configuration.CacheConfiguration;
+import net.gentledot.survey.infra.repository.jpa.SurveyJpaQuestionRepository;
 import net.gentledot.survey.infra.repository.jpa.SurveyJpaRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
 
 @Repository
 public class SurveyRepositoryImpl implements SurveyRepository {
+    private static final int DEFINITION_LOAD_ATTEMPTS = 3;
+
     private final SurveyJpaRepository surveyJpaRepository;
+    private final SurveyJpaQuestionRepository surveyJpaQuestionRepository;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> surveyDefinitionCache;
+    private final ConcurrentMap<Object, Object> surveyDefinitions;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
-    public SurveyRepositoryImpl(SurveyJpaRepository surveyJpaRepository) {
+    @SuppressWarnings("unchecked")
+    public SurveyRepositoryImpl(SurveyJpaRepository surveyJpaRepository, SurveyJpaQuestionRepository surveyJpaQuestionRepository, CacheManager cacheManager, PlatformTransactionManager transactionManager) {
         this.surveyJpaRepository = surveyJpaRepository;
+        this.surveyJpaQuestionRepository = surveyJpaQuestionRepository;
+        // 크기/만료 정책은 Caffeine 캐시(spring.cache.caffeine.spec)를 따르고, 게시는 Map 의 원자적 merge 로 처리
+        // 조회는 적중/미스 통계(cache.gets 지표)가 기록되도록 Map 이 아닌 캐시 API 로 처리
+        Cache springCache = Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.SURVEY_DEFINITION_CACHE));
+        this.surveyDefinitionCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>) springCache.getNativeCache();
+        this.surveyDefinitions = surveyDefinitionCache.asMap();
+        // 호출 측 트랜잭션에 참여하면 영속성 컨텍스트에 남은 이전 엔티티를 다시 읽게 되므로 항상 새 트랜잭션에서 읽음
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     @Override
@@ -25,8 +62,116 @@ public class SurveyRepositoryImpl implements SurveyRepository {
         return surveyJpaRepository.save(survey);
     }
 
+    @Override
+    public Survey saveAndFlush(Survey survey) {
+        return surveyJpaRepository.saveAndFlush(survey);
+    }
+
+    @Override
+    public boolean updateNameAndDescription(String surveyId, long version, String name, boolean descriptionPresent, String description, LocalDateTime updatedAt) {
+        return surveyJpaRepository.updateNameAndDescription(surveyId, version, name, descriptionPresent, description, updatedAt) > 0;
+    }
+
+    @Override
+    public boolean incrementVersion(String surveyId, long version, LocalDateTime updatedAt) {
+        return surveyJpaRepository.incrementVersion(surveyId, version, updatedAt) > 0;
+    }
+
+    @Override
+    public void increaseAnswerCount(String surveyId, long delta) {
+        surveyJpaRepository.increaseAnswerCount(surveyId, delta);
+    }
+
+    @Override
+    public SurveyQuestion findQuestion(String surveyId, Long questionId) {
+        return surveyJpaQuestionRepository.findByIdAndSurveyId(questionId, surveyId)
+                .orElseThrow(() -> new SurveyNotFoundException(ServiceError.INQUIRY_QUESTION_NOT_FOUND));
+    }
+
+    @Override
+    public SurveyQuestion saveQuestionAndFlush(SurveyQuestion question) {
+        return surveyJpaQuestionRepository.saveAndFlush(question);
+    }
+
     @Override
     public boolean existsById(String surveyId) {
         return surveyJpaRepository.existsById(surveyId);
     }
+
+    /*
+     * 게시된 정의는 불변 객체이므로 잠금 없이 읽는다.
+     * 캐시 미스인 경우에만 새 읽기 전용 트랜잭션을 열어 질문/옵션을 읽으며,
+     * 읽는 도중 다른 수정이 커밋되면(서베이 버전 변경) 섞인 상태일 수 있으므로 다시 읽는다.
+     * 계속 수정이 커밋되어 일관된 정의를 읽지 못하면 섞인 정의를 쓰지 않고 재시도 가능한 오류로 응답
+     * 존재하지 않는 서베이는 캐시하지 않고 매번 예외로 응답
+     * */
+    @Override
+    public SurveyDefinition findDefinitionById(String surveyId) {
+        SurveyDefinition published = (SurveyDefinition) surveyDefinitionCache.getIfPresent(surveyId);
+        if (published != null) {
+            return published;
+        }
+
+        for (int attempt = 0; attempt < DEFINITION_LOAD_ATTEMPTS; attempt++) {
+            SurveyDefinition loaded = readOnlyTransactionTemplate.execute(status -> loadConsistentDefinition(surveyId));
+            if (loaded != null) {
+                return publish(loaded);
+            }
+        }
+        throw new SurveyUpdateInProgressException(ServiceError.UPDATE_IN_PROGRESS);
+    }
+
+    // 질문/옵션을 모두 읽은 뒤에도 서베이 버전이 그대로인 경우에만 정의를 반환
+    private SurveyDefinition loadConsistentDefinition(String surveyId) {
+        SurveyDefinition loaded = SurveyDefinition.from(findById(surveyId));
+        Long currentVersion = surveyJpaRepository.findVersionById(surveyId).orElse(null);
+        return currentVersion != null && currentVersion == loaded.getVersion() ? loaded : null;
+    }
+
+    // 커서가 없으면 첫 페이지
+    @Override
+    public List<SurveySummaryDto> findSummaryPage(LocalDateTime cursorCreatedAt, String cursorSurveyId, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (cursorCreatedAt == null) {
+            return surveyJpaRepository.findSummaryPage(pageable);
+        }
+        return surveyJpaRepository.findSummaryPageAfter(cursorCreatedAt, cursorSurveyId, pageable);
+    }
+
+    @Override
+    public Survey getReferenceById(String surveyId) {
+        return surveyJpaRepository.getReferenceById(surveyId);
+    }
+
+    /*
+     * 수정된 정의는 커밋 이후에 게시하여, 롤백된 수정이나 커밋 전 상태가 다른 요청에 보이지 않도록 한다.
+     * */
+    @Override
+    public void publishDefinition(SurveyDefinition definition) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(definition);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(definition);
+            }
+        });
+    }
+
+    @Override
+    public SurveyDefinition findPublishedDefinition(String surveyId) {
+        return (SurveyDefinition) surveyDefinitionCache.getIfPresent(surveyId);
+    }
+
+    /*
+     * 더 높은 버전의 정의만 교체한다. (수정 전에 읽기 시작한 요청이 이전 정의를 다시 게시하는 경우 무시)
+     * 같은 버전은 같은 서베이 상태이므로 기존 정의를 유지한다.
+     * */
+    private SurveyDefinition publish(SurveyDefinition definition) {
+        return (SurveyDefinition) surveyDefinitions.merge(definition.getSurveyId(), definition,
+                (current, candidate) -> ((SurveyDefinition) candidate).isNewerThan((SurveyDefinition) current) ? candidate : current);
+    }
 }
@@ -0,0 +1,11 @@
+package net.gentledot.survey.application.service.out;
+
+import net.gentledot.survey.domain.statistics.SurveyOptionStatistic;
+
+import java.util.List;
+
+public interface SurveyStatisticsRepository {
+    List<SurveyOptionStatistic> findAllBySurveyId(String surveyId);
+
+    void increaseOptionCount(String surveyId, Long questionId, String optionText, long delta);
+}
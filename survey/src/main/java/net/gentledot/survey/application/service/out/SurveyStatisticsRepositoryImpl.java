@@ -0,0 +1,29 @@
+package net.gentledot.survey.application.service.out;
+
+import net.gentledot.survey.domain.statistics.SurveyOptionStatistic;
+import net.gentledot.survey.infra.repository.jpa.SurveyOptionStatisticJpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class SurveyStatisticsRepositoryImpl implements SurveyStatisticsRepository {
+    private final SurveyOptionStatisticJpaRepository optionStatisticJpaRepository;
+
+    public SurveyStatisticsRepositoryImpl(SurveyOptionStatisticJpaRepository optionStatisticJpaRepository) {
+        this.optionStatisticJpaRepository = optionStatisticJpaRepository;
+    }
+
+    @Override
+    public List<SurveyOptionStatistic> findAllBySurveyId(String surveyId) {
+        return optionStatisticJpaRepository.findAllBySurveyIdOrderByQuestionIdAscIdAsc(surveyId);
+    }
+
+    @Override
+    public void increaseOptionCount(String surveyId, Long questionId, String optionText, long delta) {
+        int updated = optionStatisticJpaRepository.increaseAnswerCount(surveyId, questionId, optionText, delta);
+        if (updated == 0) {
+            optionStatisticJpaRepository.save(SurveyOptionStatistic.of(surveyId, questionId, optionText, delta));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package net.gentledot.survey.application.service.statistics;
+
+public record OptionCountKey(
+        String surveyId,
+        Long questionId,
+        String optionText
+) {
+}
@@ -0,0 +1,13 @@
+package net.gentledot.survey.application.service.statistics;
+
+import java.util.Map;
+
+/*
+ * 응답 제출이 커밋된 후 발행되는 애플리케이션 이벤트 (응답 1건)
+ * optionDeltas 는 선택형 질문의 옵션별 선택 증가분이며, 서술형만 있는 응답은 비어 있다.
+ * */
+public record SurveyAnswerSubmittedEvent(
+        String surveyId,
+        Map<OptionCountKey, Long> optionDeltas
+) {
+}
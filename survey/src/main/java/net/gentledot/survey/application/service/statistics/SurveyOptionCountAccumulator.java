@@ -0,0 +1,56 @@
+package net.gentledot.survey.application.service.statistics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * 아직 DB에 반영되지 않은 옵션 선택 횟수를 누적한다.
+ * 증가분은 키 단위 원자적 merge 로 더하고, drain 은 키를 꺼내면서(remove) 제거하므로
+ * 한 번이라도 응답된 옵션 키가 계속 남지 않고 (메모리는 반영 주기 동안 응답된 옵션 수에만 비례),
+ * 꺼내는 도중 더해진 증가분도 유실되지 않는다.
+ * */
+public class SurveyOptionCountAccumulator {
+    private final ConcurrentMap<OptionCountKey, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    public void add(OptionCountKey key, long delta) {
+        pendingCounts.merge(key, delta, Long::sum);
+    }
+
+    public void addAll(Map<OptionCountKey, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    // 반영 주기 동안 누적된 키만 확인하므로 전체 키 수에 비례하지 않음
+    public Map<OptionCountKey, Long> pendingOf(String surveyId) {
+        Map<OptionCountKey, Long> pending = new HashMap<>();
+        pendingCounts.forEach((key, count) -> {
+            if (key.surveyId().equals(surveyId) && count != 0) {
+                pending.put(key, count);
+            }
+        });
+        return pending;
+    }
+
+    // 서베이의 누적된 증가분을 버린다.
+    public void remove(String surveyId) {
+        pendingCounts.keySet().removeIf(key -> key.surveyId().equals(surveyId));
+    }
+
+    public boolean isEmpty() {
+        return pendingCounts.isEmpty();
+    }
+
+    // 누적된 증가분을 꺼내고 키를 제거한다. 동시에 들어온 증가분은 다음 drain 에 포함된다.
+    public Map<OptionCountKey, Long> drain() {
+        Map<OptionCountKey, Long> drained = new HashMap<>();
+        for (OptionCountKey key : pendingCounts.keySet()) {
+            Long count = pendingCounts.remove(key);
+            if (count != null && count != 0) {
+                drained.put(key, count);
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,19 @@
+package net.gentledot.survey.application.service.submission;
+
+import net.gentledot.survey.domain.surveyanswer.dto.SubmitSurveyAnswerDto;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+
+import java.util.List;
+
+/*
+ * 검증을 마치고 DB 반영을 기다리는 응답.
+ * 검증에 사용한 서베이 정의를 함께 보관하여 반영 시점에도 같은 질문 revision 으로 저장한다.
+ * idempotencyKey 는 Idempotency-Key 헤더 없이 접수된 경우 null.
+ * */
+public record PendingSurveyAnswer(String receiptId, SurveyDefinition definition, List<SubmitSurveyAnswerDto> answers,
+                                  String idempotencyKey) {
+
+    public String surveyId() {
+        return definition.getSurveyId();
+    }
+}
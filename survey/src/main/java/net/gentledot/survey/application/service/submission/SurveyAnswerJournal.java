@@ -0,0 +1,270 @@
+package net.gentledot.survey.application.service.submission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 비동기 제출 응답의 로컬 append-only 저널.
+ * 접수 시 SUBMITTED, DB 반영 후 COMPLETED 를 한 줄(NDJSON)씩 기록하고,
+ * 재시작 시 COMPLETED 가 없는 응답만 복구한 뒤 파일을 다시 작성(compaction)한다.
+ * 반영에 반복 실패한 응답(FAILED)은 복구하지 않고 compaction 시 `.failed` 파일로 옮겨 보관한다.
+ * 디스크 반영(force)은 group commit 으로 처리하여, 동시에 기록된 줄은 한 번의 force 로 함께 반영된다.
+ * 실행 중에도 접수된 응답이 모두 COMPLETED/FAILED 로 기록되면 저널을 비워 파일이 계속 커지지 않는다.
+ * */
+@Slf4j
+public class SurveyAnswerJournal implements AutoCloseable {
+    public static final String SUBMITTED = "SUBMITTED";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private final Path journalPath;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // 한 번에 한 스레드만 force 하고, 기다리던 스레드는 그 force 에 포함되었는지 확인 후 반환
+    private final ReentrantLock forceLock = new ReentrantLock();
+    // 기록한 줄 수 (writeLock 안에서 증가), 디스크에 반영된 줄 수
+    private volatile long writtenSequence;
+    private volatile long forcedSequence;
+    // 아직 COMPLETED/FAILED 가 기록되지 않은 접수 ID (writeLock 으로 보호)
+    private final Set<String> outstandingReceiptIds = new HashSet<>();
+    // 마지막 compaction 이후 FAILED 기록 여부 (writeLock 으로 보호)
+    private boolean failedSinceCompaction;
+    private FileChannel channel;
+
+    public SurveyAnswerJournal(Path journalPath, ObjectMapper objectMapper) {
+        this.journalPath = journalPath;
+        this.objectMapper = objectMapper;
+    }
+
+    public record Entry(String type, String receiptId, String surveyId, List<SubmitSurveyAnswer> answers, List<String> receiptIds,
+                        String idempotencyKey) {
+    }
+
+    /*
+     * 반영되지 않은 응답을 읽어 오고, 해당 응답만 남도록 저널을 다시 작성한 뒤 기록을 시작한다.
+     * */
+    public List<Entry> open() {
+        writeLock.lock();
+        try {
+            List<Entry> failed = new ArrayList<>();
+            List<Entry> pending = readPendingEntries(failed);
+            Path parent = journalPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            moveToFailedFile(failed);
+
+            Path compacted = journalPath.resolveSibling(journalPath.getFileName() + ".compact");
+            List<String> lines = new ArrayList<>();
+            for (Entry entry : pending) {
+                lines.add(objectMapper.writeValueAsString(entry));
+            }
+            Files.write(compacted, lines, StandardCharsets.UTF_8);
+            Files.move(compacted, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            channel = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            pending.forEach(entry -> outstandingReceiptIds.add(entry.receiptId()));
+            return pending;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void appendSubmitted(String receiptId, String surveyId, List<SubmitSurveyAnswer> answers, String idempotencyKey) {
+        append(new Entry(SUBMITTED, receiptId, surveyId, answers, null, idempotencyKey));
+    }
+
+    public void appendCompleted(Collection<String> receiptIds) {
+        if (receiptIds.isEmpty()) {
+            return;
+        }
+        append(new Entry(COMPLETED, null, null, null, List.copyOf(receiptIds), null));
+    }
+
+    public void appendFailed(Collection<String> receiptIds) {
+        if (receiptIds.isEmpty()) {
+            return;
+        }
+        append(new Entry(FAILED, null, null, null, List.copyOf(receiptIds), null));
+    }
+
+    /*
+     * 접수된 응답이 모두 COMPLETED/FAILED 로 기록되었으면 저널을 비운다. (반영 주기가 끝날 때 호출)
+     * 실패한 응답이 있었으면 비우기 전에 `.failed` 파일로 옮기며, 실패해도 다음 주기에 다시 시도한다.
+     * */
+    public void compactIfSettled() {
+        writeLock.lock();
+        try {
+            if (channel == null || !outstandingReceiptIds.isEmpty() || channel.size() == 0) {
+                return;
+            }
+
+            if (failedSinceCompaction) {
+                List<Entry> failed = new ArrayList<>();
+                if (!readPendingEntries(failed).isEmpty()) {
+                    return;
+                }
+                moveToFailedFile(failed);
+                failedSinceCompaction = false;
+            }
+
+            forceLock.lock();
+            try {
+                channel.truncate(0);
+                channel.force(true);
+                forcedSequence = writtenSequence;
+            } finally {
+                forceLock.unlock();
+            }
+        } catch (IOException e) {
+            log.warn("=== 응답 저널 정리 실패, 다음 주기에 다시 시도합니다 ===", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 접수 응답(202)을 보내기 전에 디스크에 기록되도록, 기록 후 force 까지 기다린다.
+    private void append(Entry entry) {
+        byte[] line;
+        try {
+            line = (objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long sequence;
+        writeLock.lock();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            track(entry);
+            sequence = ++writtenSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+
+        awaitForced(sequence);
+    }
+
+    private void track(Entry entry) {
+        if (SUBMITTED.equals(entry.type())) {
+            outstandingReceiptIds.add(entry.receiptId());
+        } else {
+            entry.receiptIds().forEach(outstandingReceiptIds::remove);
+            failedSinceCompaction |= FAILED.equals(entry.type());
+        }
+    }
+
+    /*
+     * group commit, 먼저 force 를 시작한 스레드가 그 시점까지 기록된 줄을 함께 반영한다.
+     * force 하는 동안 다른 스레드는 계속 기록할 수 있고, 기다리던 스레드는 자신의 줄이 이미 반영되었으면 force 없이 반환한다.
+     * */
+    private void awaitForced(long sequence) {
+        if (forcedSequence >= sequence) {
+            return;
+        }
+
+        forceLock.lock();
+        try {
+            if (forcedSequence >= sequence) {
+                return;
+            }
+            long target = writtenSequence;
+            channel.force(false);
+            forcedSequence = target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private void moveToFailedFile(List<Entry> failed) throws IOException {
+        if (failed.isEmpty()) {
+            return;
+        }
+
+        List<String> failedLines = new ArrayList<>();
+        for (Entry entry : failed) {
+            failedLines.add(objectMapper.writeValueAsString(entry));
+        }
+        Files.write(journalPath.resolveSibling(journalPath.getFileName() + ".failed"), failedLines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+    }
+
+    private List<Entry> readPendingEntries(List<Entry> failed) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Entry> pending = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            Entry entry;
+            try {
+                entry = objectMapper.readValue(line, Entry.class);
+            } catch (IOException e) {
+                // 기록 도중 종료되어 잘린 마지막 줄은 건너뜀
+                log.warn("=== 응답 저널의 손상된 기록을 건너뜁니다 === {}", line);
+                continue;
+            }
+
+            if (SUBMITTED.equals(entry.type())) {
+                pending.put(entry.receiptId(), entry);
+            } else if (COMPLETED.equals(entry.type()) && entry.receiptIds() != null) {
+                entry.receiptIds().forEach(pending::remove);
+            } else if (FAILED.equals(entry.type()) && entry.receiptIds() != null) {
+                for (String receiptId : entry.receiptIds()) {
+                    Entry failedEntry = pending.remove(receiptId);
+                    if (failedEntry != null) {
+                        failed.add(failedEntry);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(pending.values());
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("=== 응답 저널 종료 실패 ===", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
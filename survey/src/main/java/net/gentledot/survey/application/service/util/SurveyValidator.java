@@ -6,40 +6,41 @@ import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAns
 import net.gentledot.survey.application.service.in.model.request.SurveyQuestionOptionRequest;
 import net.gentledot.survey.application.service.in.model.request.SurveyQuestionRequest;
 import net.gentledot.survey.application.service.in.model.request.SurveyRequest;
-import net.gentledot.survey.domain.enums.ItemRequired;
 import net.gentledot.survey.domain.enums.SurveyItemType;
 import net.gentledot.survey.domain.enums.UpdateType;
 import net.gentledot.survey.domain.exception.ServiceError;
 import net.gentledot.survey.domain.exception.SurveyCreationException;
 import net.gentledot.survey.domain.exception.SurveySubmitValidationException;
+import net.gentledot.survey.domain.surveyanswer.variables.TextInput;
 import net.gentledot.survey.domain.surveybase.Survey;
-import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.definition.SurveyQuestionDefinition;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SurveyValidator {
 
-    public static final int MAXIMUM_QUESTION_COUNT = 10;
+    // survey.question.maximum-count 로 변경 가능
+    public static final int DEFAULT_MAXIMUM_QUESTION_COUNT = 1000;
 
     public static void validateSurveyAnswers(Survey survey, List<SubmitSurveyAnswer> answers) {
-        Map<Long, SurveyQuestion> questionMap = survey.getQuestions().stream()
-                .collect(Collectors.toMap(SurveyQuestion::getId, question -> question));
+        validateSurveyAnswers(SurveyDefinition.from(survey), answers);
+    }
 
+    public static void validateSurveyAnswers(SurveyDefinition survey, List<SubmitSurveyAnswer> answers) {
         for (SubmitSurveyAnswer answer : answers) {
             // 1. questionId가 유효한지 확인
-            if (!questionMap.containsKey(answer.getQuestionId())) {
+            SurveyQuestionDefinition question = survey.getQuestion(answer.getQuestionId());
+            if (question == null) {
                 throw new SurveySubmitValidationException(ServiceError.SUBMIT_INVALID_QUESTION_ID);
             }
 
-            SurveyQuestion question = questionMap.get(answer.getQuestionId());
-
             // 2. answer가 비어 있는지 확인 (필수 항목)
-            if (question.getRequired() == ItemRequired.REQUIRED) {
+            if (question.isRequiredItem()) {
                 if (answer.getAnswer().isEmpty() || StringUtils.isBlank(answer.getAnswer().getFirst())) {
                     throw new SurveySubmitValidationException(ServiceError.BAD_REQUEST);
                 }
@@ -54,32 +55,55 @@ public class SurveyValidator {
                 throw new SurveySubmitValidationException(ServiceError.SUBMIT_INVALID_QUESTION_OPTION_ID);
             }
 
+            // 4. 텍스트 응답이 저장 가능한 길이인지 확인 (저장 시점에 실패하지 않도록 접수 전에 검증)
+            if (isTextItem(question) && StringUtils.length(answer.getAnswer().getFirst()) > TextInput.MAXIMUM_TEXT_LENGTH) {
+                throw new SurveySubmitValidationException(ServiceError.SUBMIT_TEXT_TOO_LONG);
+            }
+
         }
+
+        // 5. 모든 질문에 대한 응답이 포함되었는지 확인
+        if (survey.getQuestionCount() != answers.size()) {
+            throw new SurveySubmitValidationException(ServiceError.SUBMIT_INVALID_QUESTION_ID);
+        }
+    }
+
+    private static boolean isTextItem(SurveyQuestionDefinition question) {
+        return SurveyItemType.TEXT.equals(question.getItemType()) || SurveyItemType.PARAGRAPH.equals(question.getItemType());
     }
 
-    private static boolean isValidAnswer(SurveyQuestion question, SubmitSurveyAnswer answer) {
-        // 응답 값 검증 로직
+    private static boolean isValidAnswer(SurveyQuestionDefinition question, SubmitSurveyAnswer answer) {
+        // 응답 값 검증 로직 (옵션은 정의 생성 시 만들어 둔 인덱스로 조회)
         return switch (question.getItemType()) {
             case TEXT, PARAGRAPH -> answer.getAnswer().size() == 1;
-            case SINGLE_SELECT -> question.getOptions().stream()
-                    .anyMatch(option -> option.getOptionText().equals(answer.getAnswer().getFirst()));
-            case MULTI_SELECT -> answer.getAnswer().stream()
-                    .allMatch(ans -> question.getOptions().stream()
-                            .anyMatch(option -> option.getOptionText().equals(ans)));
+            case SINGLE_SELECT -> question.hasOption(answer.getAnswer().getFirst());
+            case MULTI_SELECT -> {
+                for (String selected : answer.getAnswer()) {
+                    if (!question.hasOption(selected)) {
+                        yield false;
+                    }
+                }
+                yield true;
+            }
             default -> false;
         };
     }
 
     public static void validateRequest(SurveyRequest surveyRequest) {
+        validateRequest(surveyRequest, DEFAULT_MAXIMUM_QUESTION_COUNT);
+    }
+
+    public static void validateRequest(SurveyRequest surveyRequest, int maximumQuestionCount) {
         List<SurveyQuestionRequest> questions = surveyRequest.getQuestions();
 
         if (questions == null) {
             throw new SurveyCreationException(ServiceError.CREATION_INVALID_REQUEST);
-        } else if (questions.isEmpty() || questions.size() > MAXIMUM_QUESTION_COUNT) {
+        } else if (questions.isEmpty() || questions.size() > maximumQuestionCount) {
             throw new SurveyCreationException(ServiceError.CREATION_INSUFFICIENT_QUESTIONS);
         }
 
-        Map<Long, Long> questionCountMap = new HashMap<>();
+        // 질문 ID 중복은 한 번의 순회에서 Set 으로 확인
+        Set<Long> questionIds = new HashSet<>();
         for (SurveyQuestionRequest question : questions) {
             if (question.getUpdateType() == null || question.getUpdateType().equals(UpdateType.MODIFY)) {
 
@@ -92,19 +116,9 @@ public class SurveyValidator {
                 }
 
                 Long questionId = question.getQuestionId();
-                if (questionId != null) {
-                    questionCountMap.put(
-                            questionId,
-                            questionCountMap.getOrDefault(questionId, 0L) + 1
-                    );
+                if (questionId != null && !questionIds.add(questionId)) {
+                    throw new SurveyCreationException(ServiceError.CREATION_DUPLICATE_QUESTIONS);
                 }
-
-                questionCountMap.entrySet().stream()
-                        .filter(entry -> entry.getValue() > 1)
-                        .findFirst()
-                        .ifPresent(entry -> {
-                            throw new SurveyCreationException(ServiceError.CREATION_DUPLICATE_QUESTIONS);
-                        });
             } else {
                 if (question.getQuestionId() == null) {
                     throw new SurveyCreationException(ServiceError.CREATION_REQUIRED_OPTIONS);
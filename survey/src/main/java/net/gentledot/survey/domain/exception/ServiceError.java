@@ -10,7 +10,7 @@ import lombok.ToString;
 public enum ServiceError {
     // 생성 관련 오류 (100)
     CREATION_INVALID_REQUEST("1001", "서베이 생성 요청에 오류가 있습니다."),
-    CREATION_INSUFFICIENT_QUESTIONS("1002", "서베이 생성에 필요한 질문은 최소 1개 이상, 10개 이하까지 생성 가능합니다."),
+    CREATION_INSUFFICIENT_QUESTIONS("1002", "서베이 질문은 최소 1개 이상, 허용된 최대 질문 수 이하까지 생성 가능합니다."),
     CREATION_INSUFFICIENT_OPTIONS("1003", "서베이 생성에 필요한 질문 옵션이 유효하지 않습니다."),
     CREATION_DUPLICATE_QUESTIONS("1004", "서베이 생성/수정 요청 시 중복된 질문이 설정될 수 없습니다."),
     CREATION_REQUIRED_OPTIONS("1005", "서베이 생성에 필요한 옵션이 확인되지 않습니다."),
@@ -18,12 +18,21 @@ public enum ServiceError {
     // 조회 관련 오류 (200)
     INQUIRY_SURVEY_NOT_FOUND("2001", "요청한 서베이를 찾을 수 없습니다."),
     INQUIRY_QUESTION_NOT_FOUND("2002", "요청한 질문를 찾을 수 없습니다."),
+    INQUIRY_INVALID_CURSOR("2003", "페이지 조회 커서가 유효하지 않습니다."),
 
     // 응답 관련 오류 (300)
     SUBMIT_INVALID_QUESTION_ID("3001", "제출한 응답의 질문이 확인되지 않습니다."),
     SUBMIT_INVALID_QUESTION_OPTION_ID("3002", "제출한 응답의 질문의 옵션이 확인되지 않습니다."),
     SUBMIT_UNSUPPORTED_ATTRIBUTE("3003", "서비스에서 지원되지 않는 응답 형식입니다."),
     SUBMIT_DATA_CONVERT_ERROR("3004", "입력된 데이터의 변환 처리에 실패하였습니다."),
+    SUBMIT_BULK_SIZE_EXCEEDED("3005", "일괄 제출 가능한 응답 수를 벗어났습니다."),
+    SUBMIT_QUEUE_FULL("3006", "응답 제출 요청이 많아 접수할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SUBMIT_INVALID_IDEMPOTENCY_KEY("3007", "Idempotency-Key 는 100자 이하로 입력해야 합니다."),
+    SUBMIT_TEXT_TOO_LONG("3008", "텍스트 응답은 255자 이하로 입력해야 합니다."),
+
+    // 수정 관련 오류 (400)
+    UPDATE_VERSION_CONFLICT("4001", "다른 요청에 의해 서베이가 수정되었습니다. 최신 버전으로 다시 요청해주세요."),
+    UPDATE_IN_PROGRESS("4002", "서베이가 수정 중입니다. 잠시 후 다시 요청해주세요."),
 
     // 공통 오류 (900)
     BAD_REQUEST("9400", "요청이 유효하지 않습니다."),
@@ -2,9 +2,11 @@ package net.gentledot.survey.domain.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import net.gentledot.survey.domain.common.ServiceResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -29,6 +31,36 @@ public class ServiceExceptionHandler extends ResponseEntityExceptionHandler {
         return createServiceResponse(fail, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(SurveySubmissionOverloadedException.class)
+    public ResponseEntity<Object> handleSurveySubmissionOverloadedException(SurveySubmissionOverloadedException e) {
+        log.warn("=== 서베이 응답 접수 대기열 초과 ===", e);
+        ServiceResponse<?> fail = createFail(e.getServiceError());
+        return createServiceResponse(fail, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(SurveyUpdateConflictException.class)
+    public ResponseEntity<Object> handleSurveyUpdateConflictException(SurveyUpdateConflictException e) {
+        log.warn("=== 서베이 수정 버전 충돌 ===", e);
+        ServiceResponse<?> fail = createFail(e.getServiceError());
+        return createServiceResponse(fail, HttpStatus.CONFLICT);
+    }
+
+    // 서베이 정의를 읽는 동안 수정이 계속 커밋되는 경우, 잠시 후 재시도하면 처리 가능
+    @ExceptionHandler(SurveyUpdateInProgressException.class)
+    public ResponseEntity<Object> handleSurveyUpdateInProgressException(SurveyUpdateInProgressException e) {
+        log.warn("=== 서베이 수정 중 정의 조회 실패 ===", e);
+        ServiceResponse<?> fail = createFail(e.getServiceError());
+        return createServiceResponse(fail, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // 서베이 전체 수정(PUT) 중 다른 요청이 먼저 커밋한 경우 (@Version 불일치)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.warn("=== 서베이 수정 버전 충돌 ===", e);
+        ServiceResponse<?> fail = createFail(ServiceError.UPDATE_VERSION_CONFLICT);
+        return createServiceResponse(fail, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(SurveyServiceException.class)
     public ResponseEntity<Object> handleSurveyServiceException(SurveyServiceException e) {
         log.warn("=== 서베이 서비스 오류 ===", e);
@@ -83,7 +115,10 @@ public class ServiceExceptionHandler extends ResponseEntityExceptionHandler {
         return ServiceResponse.fail(e);
     }
 
+    // 스트리밍(SSE, NDJSON) 요청의 Accept 와 관계없이 오류 응답은 JSON 으로 반환
     private ResponseEntity<Object> createServiceResponse(ServiceResponse failedResponse, HttpStatus status) {
-        return new ResponseEntity<>(failedResponse, status);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(failedResponse);
     }
 }
@@ -0,0 +1,11 @@
+package net.gentledot.survey.domain.exception;
+
+public class SurveyInquiryException extends SurveyServiceException {
+    public SurveyInquiryException(ServiceError serviceError) {
+        super(serviceError);
+    }
+
+    public SurveyInquiryException(ServiceError serviceError, Throwable cause) {
+        super(serviceError, cause);
+    }
+}
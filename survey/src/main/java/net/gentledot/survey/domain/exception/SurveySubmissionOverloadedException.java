@@ -0,0 +1,11 @@
+package net.gentledot.survey.domain.exception;
+
+public class SurveySubmissionOverloadedException extends SurveyServiceException {
+    public SurveySubmissionOverloadedException(ServiceError serviceError) {
+        super(serviceError);
+    }
+
+    public SurveySubmissionOverloadedException(ServiceError serviceError, Throwable cause) {
+        super(serviceError, cause);
+    }
+}
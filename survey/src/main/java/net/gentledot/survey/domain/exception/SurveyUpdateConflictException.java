@@ -0,0 +1,11 @@
+package net.gentledot.survey.domain.exception;
+
+public class SurveyUpdateConflictException extends SurveyServiceException {
+    public SurveyUpdateConflictException(ServiceError serviceError) {
+        super(serviceError);
+    }
+
+    public SurveyUpdateConflictException(ServiceError serviceError, Throwable cause) {
+        super(serviceError, cause);
+    }
+}
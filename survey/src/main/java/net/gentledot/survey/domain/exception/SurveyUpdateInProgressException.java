@@ -0,0 +1,11 @@
+package net.gentledot.survey.domain.exception;
+
+public class SurveyUpdateInProgressException extends SurveyServiceException {
+    public SurveyUpdateInProgressException(ServiceError serviceError) {
+        super(serviceError);
+    }
+
+    public SurveyUpdateInProgressException(ServiceError serviceError, Throwable cause) {
+        super(serviceError, cause);
+    }
+}
@@ -0,0 +1,39 @@
+package net.gentledot.survey.domain.statistics;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+ * 서베이 - 질문 - 옵션 단위로 누적된 선택 횟수
+ * 응답 제출 시 증가분이 집계되며, 통계 조회는 응답 전체가 아닌 이 테이블만 조회한다.
+ * */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_survey_option_statistic",
+        columnNames = {"survey_id", "question_id", "option_text"}))
+public class SurveyOptionStatistic {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String surveyId;
+    private Long questionId;
+    private String optionText;
+    private long answerCount;
+
+    public static SurveyOptionStatistic of(String surveyId, Long questionId, String optionText, long answerCount) {
+        return new SurveyOptionStatistic(null, surveyId, questionId, optionText, answerCount);
+    }
+}
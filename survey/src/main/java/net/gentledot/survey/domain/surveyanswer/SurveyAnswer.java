@@ -2,30 +2,34 @@ package net.gentledot.survey.domain.surveyanswer;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import net.gentledot.survey.domain.common.BaseEntity;
-import net.gentledot.survey.domain.enums.ItemRequired;
-import net.gentledot.survey.domain.enums.SurveyItemType;
+import net.gentledot.survey.domain.enums.AnswerType;
 import net.gentledot.survey.domain.exception.ServiceError;
 import net.gentledot.survey.domain.exception.SurveySubmitValidationException;
 import net.gentledot.survey.domain.surveyanswer.dto.SubmitSurveyAnswerDto;
 import net.gentledot.survey.domain.surveybase.Survey;
-import net.gentledot.survey.domain.surveybase.SurveyQuestion;
-import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.definition.SurveyQuestionDefinition;
+import org.hibernate.annotations.BatchSize;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -33,68 +37,77 @@ import java.util.stream.Collectors;
 @Getter
 @ToString(exclude = "survey")
 @Entity
+@Table(indexes = @Index(name = "idx_survey_answer_survey_id_id", columnList = "survey_id, id"))
 public class SurveyAnswer extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_answer_seq")
+    @SequenceGenerator(name = "survey_answer_seq", sequenceName = "survey_answer_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "survey_id")
     private Survey survey;
 
+    @BatchSize(size = 100)
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "surveyAnswer")
     private List<SurveyAnswerSubmission> answers;
 
     public static SurveyAnswer of(Survey survey, List<SubmitSurveyAnswerDto> submitSurveyAnswers) {
-        Map<Long, SurveyQuestion> surveyQuestionMap = survey.getQuestions()
-                .stream().collect(Collectors.toMap(
-                        SurveyQuestion::getId,
-                        question -> question));
+        return of(survey, SurveyDefinition.from(survey), submitSurveyAnswers);
+    }
 
-        if (surveyQuestionMap.size() != submitSurveyAnswers.size()) {
+    /*
+     * survey 는 연관관계(FK) 설정에만 사용되므로 프록시(참조)여도 되며,
+     * 질문/옵션 정보는 모두 definition 에서 읽는다.
+     * 질문 항목은 복사하지 않고 definition 의 질문 revision ID 만 참조한다.
+     * */
+    public static SurveyAnswer of(Survey survey, SurveyDefinition definition, List<SubmitSurveyAnswerDto> submitSurveyAnswers) {
+        if (definition.getQuestionCount() != submitSurveyAnswers.size()) {
             throw new SurveySubmitValidationException(ServiceError.SUBMIT_INVALID_QUESTION_ID);
         }
 
-        List<SurveyAnswerSubmission> answerSubmissions = submitSurveyAnswers.stream()
-                .map(submitSurveyAnswer -> {
-                    Long questionId = submitSurveyAnswer.getQuestionId();
-                    SurveyQuestion question = surveyQuestionMap.get(questionId);
-
-                    if (question == null) {
-                        throw new SurveySubmitValidationException(ServiceError.SUBMIT_INVALID_QUESTION_ID);
-                    }
+        List<SurveyAnswerSubmission> answerSubmissions = new ArrayList<>(submitSurveyAnswers.size());
+        for (SubmitSurveyAnswerDto submitSurveyAnswer : submitSurveyAnswers) {
+            SurveyQuestionDefinition question = definition.getQuestion(submitSurveyAnswer.getQuestionId());
 
-                    List<String> submitAnswers = submitSurveyAnswer.getAnswer();
-                    List<SurveyQuestionOption> questionOptions = question.getOptions();
-                    SurveyQuestionSnapshot questionSnapshot = SurveyQuestionSnapshot.from(question);
+            if (question == null) {
+                throw new SurveySubmitValidationException(ServiceError.SUBMIT_INVALID_QUESTION_ID);
+            }
 
-                    SurveyQuestionAnswerSnapshot collectedOptionSnapshot;
+            List<String> submitAnswers = submitSurveyAnswer.getAnswer();
+            SurveyQuestionAnswerSnapshot collectedOptionSnapshot;
 
-                    if (question.getItemType() == SurveyItemType.SINGLE_SELECT ||
-                        question.getItemType() == SurveyItemType.MULTI_SELECT) {
-                        if (ItemRequired.REQUIRED.equals(question.getRequired()) &&
-                            (questionOptions.size() < submitAnswers.size())) {
-                            throw new SurveySubmitValidationException(ServiceError.SUBMIT_INVALID_QUESTION_OPTION_ID);
-                        }
+            if (question.isSelectable()) {
+                if (question.isRequiredItem() && (question.getOptions().size() < submitAnswers.size())) {
+                    throw new SurveySubmitValidationException(ServiceError.SUBMIT_INVALID_QUESTION_OPTION_ID);
+                }
 
-                        String collectedAnswer = questionOptions.stream()
-                                .filter(option -> submitAnswers.contains(option.getOptionText()))
-                                .map(SurveyQuestionOption::getOptionText)
-                                .collect(Collectors.joining(", "));
+                collectedOptionSnapshot = SurveyQuestionAnswerSnapshot.ofSelection(encodeSelectedOptions(question, submitAnswers));
 
-                        collectedOptionSnapshot = SurveyQuestionAnswerSnapshot.of(questionSnapshot.getAnswerType(), questionOptions, collectedAnswer);
-
-                    } else {
-                        String answer = submitAnswers.isEmpty() ? null : submitAnswers.getFirst();
-                        collectedOptionSnapshot = SurveyQuestionAnswerSnapshot.of(questionSnapshot.getAnswerType(), questionOptions, answer);
-                    }
-                    return SurveyAnswerSubmission.of(null, questionSnapshot, collectedOptionSnapshot);
-                })
-                .collect(Collectors.toList());
+            } else {
+                String answer = submitAnswers.isEmpty() ? null : submitAnswers.getFirst();
+                collectedOptionSnapshot = SurveyQuestionAnswerSnapshot.of(AnswerType.TEXT, answer);
+            }
+            answerSubmissions.add(SurveyAnswerSubmission.of(null, question.getRevisionId(), collectedOptionSnapshot));
+        }
 
         SurveyAnswer surveyAnswer = new SurveyAnswer(null, survey, answerSubmissions);
         answerSubmissions.forEach(submission -> submission.setSurveyAnswer(surveyAnswer));
         return surveyAnswer;
     }
+
+    /*
+     * 선택된 옵션을 질문 revision 의 옵션 순서(ordinal) 집합으로 변환한다.
+     * */
+    private static BitSet encodeSelectedOptions(SurveyQuestionDefinition question, List<String> submitAnswers) {
+        BitSet selectedOptionIndexes = new BitSet();
+        for (String submitAnswer : submitAnswers) {
+            int optionIndex = question.indexOf(submitAnswer);
+            if (optionIndex >= 0) {
+                selectedOptionIndexes.set(optionIndex);
+            }
+        }
+        return selectedOptionIndexes;
+    }
 }
@@ -0,0 +1,52 @@
+package net.gentledot.survey.domain.surveyanswer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import net.gentledot.survey.domain.common.BaseEntity;
+
+/*
+ * 서베이별 Idempotency-Key 로 처리된 응답 제출 기록
+ * (survey_id, idempotency_key) 유니크 제약으로 동일 키의 중복 저장을 막는다.
+ * */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_survey_answer_idempotency",
+        columnNames = {"survey_id", "idempotency_key"}))
+public class SurveyAnswerIdempotency extends BaseEntity {
+    public static final int MAXIMUM_KEY_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_answer_idempotency_seq")
+    @SequenceGenerator(name = "survey_answer_idempotency_seq", sequenceName = "survey_answer_idempotency_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "survey_id", nullable = false)
+    private String surveyId;
+
+    @Column(name = "idempotency_key", nullable = false, length = MAXIMUM_KEY_LENGTH)
+    private String idempotencyKey;
+
+    private Long answerId;
+
+    // 비동기 제출로 접수된 경우의 접수 ID
+    private String receiptId;
+
+    public static SurveyAnswerIdempotency of(String surveyId, String idempotencyKey, Long answerId, String receiptId) {
+        return new SurveyAnswerIdempotency(null, surveyId, idempotencyKey, answerId, receiptId);
+    }
+}
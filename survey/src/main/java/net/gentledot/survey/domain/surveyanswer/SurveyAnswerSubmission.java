@@ -1,39 +1,58 @@
 package net.gentledot.survey.domain.surveyanswer;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import net.gentledot.survey.domain.surveybase.SurveyQuestionRevision;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@ToString(exclude = "surveyAnswer")
+@ToString(exclude = {"surveyAnswer", "questionRevision"})
 @Entity
 public class SurveyAnswerSubmission {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_answer_submission_seq")
+    @SequenceGenerator(name = "survey_answer_submission_seq", sequenceName = "survey_answer_submission_seq", allocationSize = 50)
     private Long id;
 
     @Setter
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "survey_answer_id")
     private SurveyAnswer surveyAnswer;
 
-    private SurveyQuestionSnapshot surveyQuestionSnapshot;
-
     private SurveyQuestionAnswerSnapshot surveyQuestionAnswerSnapshot;
 
-    public static SurveyAnswerSubmission of(SurveyAnswer surveyAnswer, SurveyQuestionSnapshot surveyQuestion, SurveyQuestionAnswerSnapshot surveyQuestionOptions) {
-        return new SurveyAnswerSubmission(null, surveyAnswer, surveyQuestion, surveyQuestionOptions);
+    // 응답 시점의 질문 revision (질문 항목/옵션), 제출 시에는 캐시된 서베이 정의의 ID 만 저장
+    @Column(name = "question_revision_id")
+    private Long questionRevisionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "question_revision_id", insertable = false, updatable = false)
+    private SurveyQuestionRevision questionRevision;
+
+    public static SurveyAnswerSubmission of(SurveyAnswer surveyAnswer, Long questionRevisionId, SurveyQuestionAnswerSnapshot surveyQuestionOptions) {
+        return new SurveyAnswerSubmission(null, surveyAnswer, surveyQuestionOptions, questionRevisionId, null);
+    }
+
+    public SurveyQuestionSnapshot getSurveyQuestionSnapshot() {
+        return questionRevision.getQuestion();
+    }
+
+    public String getAnswer() {
+        return surveyQuestionAnswerSnapshot.getAnswer(questionRevision.getQuestion().getAnswerType(), questionRevision.getOptions());
     }
 
 }
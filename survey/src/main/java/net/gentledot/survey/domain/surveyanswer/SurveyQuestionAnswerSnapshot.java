@@ -12,8 +12,8 @@ import net.gentledot.survey.domain.surveyanswer.variables.Attachment;
 import net.gentledot.survey.domain.surveyanswer.variables.DateTime;
 import net.gentledot.survey.domain.surveyanswer.variables.Selection;
 import net.gentledot.survey.domain.surveyanswer.variables.TextInput;
-import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
 
+import java.util.BitSet;
 import java.util.List;
 
 
@@ -47,33 +47,30 @@ public class SurveyQuestionAnswerSnapshot {
         );
     }
 
-    private static SurveyQuestionAnswerSnapshot newSelection(String selectedOption, List<SurveyQuestionOption> options) {
-        return new SurveyQuestionAnswerSnapshot(
-                Selection.of(selectedOption, options)
-        );
-    }
-
     public static SurveyQuestionAnswerSnapshot of(AnswerType answerType, String answer) {
-        return of(answerType, null, answer);
-    }
-
-    public static SurveyQuestionAnswerSnapshot of(AnswerType answerType, List<SurveyQuestionOption> options, String answer) {
         if (AnswerType.TEXT.equals(answerType)) {
             return newTextInput(answer);
-        } else if (AnswerType.SELECTION.equals(answerType)) {
-            return newSelection(answer, options);
         }
 
         throw new SurveySubmitValidationException(ServiceError.SUBMIT_UNSUPPORTED_ATTRIBUTE);
     }
 
-    public String getAnswer(AnswerType answerType) {
+    public static SurveyQuestionAnswerSnapshot ofSelection(BitSet selectedOptionIndexes) {
+        return new SurveyQuestionAnswerSnapshot(
+                Selection.of(selectedOptionIndexes)
+        );
+    }
+
+    /*
+     * 선택 응답은 응답 시점 질문 revision 의 옵션 목록(options)으로 복원한다.
+     * */
+    public String getAnswer(AnswerType answerType, List<String> options) {
         if (AnswerType.TEXT.equals(answerType)) {
             return textInputAnswer.getText();
         } else if (AnswerType.SELECTION.equals(answerType)) {
-            return selectionAnswer.getSelectedOption();
+            return String.join(", ", selectionAnswer.getSelectedOptions(options));
         }
 
         throw new SurveySubmitValidationException(ServiceError.SUBMIT_UNSUPPORTED_ATTRIBUTE);
     }
-}
\ No newline at end of file
+}
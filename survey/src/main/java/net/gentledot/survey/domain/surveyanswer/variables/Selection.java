@@ -1,29 +1,57 @@
 package net.gentledot.survey.domain.surveyanswer.variables;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
-import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
+import org.hibernate.Length;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/*
+ * 선택한 옵션을 질문 revision 의 옵션 순서(ordinal)별 선택 여부 문자('1' 선택, '0' 미선택)로 저장한다.
+ * 마지막으로 선택된 옵션까지만 저장하므로 길이가 옵션 수에 따라 늘어나며, 옵션 수를 따로 제한하지 않는다.
+ * (컬럼은 varchar 로 조회 조건에서 substring 으로 확인할 수 있는 Length.LONG(32,600자) 길이)
+ * 옵션 텍스트는 응답 조회 시 revision 의 옵션 목록으로 복원한다.
+ * */
 @ToString
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Embeddable
 public class Selection {
-    private String selectedOption;
-    private List<String> options;
+    private static final char SELECTED = '1';
+    private static final char NOT_SELECTED = '0';
 
-    public Selection(String selectedOption, List<String> options) {
-        this.selectedOption = selectedOption;
-        this.options = options;
+    @Column(length = Length.LONG)
+    private String selectedOptions;
+
+    private Selection(String selectedOptions) {
+        this.selectedOptions = selectedOptions;
+    }
+
+    public static Selection of(BitSet selectedOptionIndexes) {
+        StringBuilder flags = new StringBuilder(selectedOptionIndexes.length());
+        for (int i = 0; i < selectedOptionIndexes.length(); i++) {
+            flags.append(selectedOptionIndexes.get(i) ? SELECTED : NOT_SELECTED);
+        }
+        return new Selection(flags.toString());
     }
 
-    public static Selection of(String selectedOption, List<SurveyQuestionOption> options) {
-        return new Selection(selectedOption, options.stream().map(SurveyQuestionOption::getOptionText).collect(Collectors.toList()));
+    public List<String> getSelectedOptions(List<String> options) {
+        List<String> selected = new ArrayList<>();
+        if (selectedOptions == null || options == null) {
+            return selected;
+        }
+
+        for (int i = 0; i < options.size() && i < selectedOptions.length(); i++) {
+            if (selectedOptions.charAt(i) == SELECTED) {
+                selected.add(options.get(i));
+            }
+        }
+        return selected;
     }
 }
@@ -11,6 +11,9 @@ import lombok.ToString;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Embeddable
 public class TextInput {
+    // text 컬럼 길이 (varchar(255)), 응답 제출 시 검증
+    public static final int MAXIMUM_TEXT_LENGTH = 255;
+
     private int maxLength;
     private String text;
 
@@ -20,6 +23,6 @@ public class TextInput {
     }
 
     public static TextInput newText(String text) {
-        return new TextInput(300, text);
+        return new TextInput(MAXIMUM_TEXT_LENGTH, text);
     }
 }
@@ -2,9 +2,13 @@ package net.gentledot.survey.domain.surveybase;
 
 import io.micrometer.common.util.StringUtils;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -13,8 +17,11 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import net.gentledot.survey.domain.common.BaseEntity;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -23,6 +30,7 @@ import java.util.UUID;
 @Getter
 @ToString(exclude = "questions")
 @Entity
+@Table(indexes = @Index(name = "idx_survey_created_at_id", columnList = "created_at, id"))
 public class Survey extends BaseEntity {
     @Id
     private String id;
@@ -32,9 +40,18 @@ public class Survey extends BaseEntity {
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "survey")
     private List<SurveyQuestion> questions;
 
+    // 낙관적 잠금 버전, 부분 수정(PATCH) 요청은 이 버전을 조건으로 대상 컬럼만 update 한다.
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // 서베이 목록용 응답 수, 통계 반영 주기에 증가분 update 로만 변경되므로 엔티티 수정 시에는 쓰지 않음
+    @Column(nullable = false, updatable = false)
+    private long answerCount;
+
     public static Survey of(String name, String description, List<SurveyQuestion> surveyQuestions) {
         String surveyId = UUID.randomUUID().toString();
-        Survey survey = new Survey(surveyId, name, description, surveyQuestions);
+        Survey survey = new Survey(surveyId, name, description, surveyQuestions, null, 0L);
         surveyQuestions.forEach(surveyQuestion -> surveyQuestion.setSurvey(survey));
         return survey;
     }
@@ -49,6 +66,33 @@ public class Survey extends BaseEntity {
         question.setSurvey(null);
     }
 
+    /*
+     * 여러 질문을 한 번의 순회로 제거한다. (질문마다 목록을 다시 찾지 않도록)
+     * */
+    public void removeQuestions(Set<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return;
+        }
+        this.questions.removeIf(question -> {
+            if (questionIds.contains(question.getId())) {
+                question.setSurvey(null);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /*
+     * 질문 ID 로 조회하기 위한 Map (수정 요청 처리 시 한 번만 생성)
+     * */
+    public Map<Long, SurveyQuestion> getQuestionsById() {
+        Map<Long, SurveyQuestion> questionsById = new HashMap<>(questions.size() * 2);
+        for (SurveyQuestion question : questions) {
+            questionsById.put(question.getId(), question);
+        }
+        return questionsById;
+    }
+
     public void updateSurveyNameAndDesc(String name, String description) {
         if (!StringUtils.isBlank(name)) {
             this.name = name;
@@ -1,15 +1,21 @@
 package net.gentledot.survey.domain.surveybase;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,18 +25,21 @@ import lombok.ToString;
 import net.gentledot.survey.domain.enums.ItemRequired;
 import net.gentledot.survey.domain.enums.SurveyItemType;
 import net.gentledot.survey.domain.surveybase.dto.SurveyQuestionDto;
+import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@ToString(exclude = "survey")
+@ToString(exclude = {"survey", "currentRevision"})
 @Entity
 public class SurveyQuestion {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_question_seq")
+    @SequenceGenerator(name = "survey_question_seq", sequenceName = "survey_question_seq", allocationSize = 50)
     private Long id;
     private String itemName;
     private String itemDescription;
@@ -44,12 +53,27 @@ public class SurveyQuestion {
     @JoinColumn(name = "survey_id")
     private Survey survey;
 
+    // 옵션 순서(option_index)를 행 식별자로 사용하여 수정 시 바뀐 위치의 행만 update 되도록 함
     @ElementCollection
     @CollectionTable(name = "survey_question_option", joinColumns = @JoinColumn(name = "survey_question_id"))
+    @OrderColumn(name = "option_index")
     private List<SurveyQuestionOption> options;
 
+    // 응답이 참조하는 현재 질문 revision, 질문이 생성/수정될 때마다 새로 발행
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @JoinColumn(name = "current_revision_id")
+    private SurveyQuestionRevision currentRevision;
+
+    // 질문 단위 낙관적 잠금 버전, 같은 질문을 동시에 수정하면 나중에 flush 한 쪽이 실패한다.
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public static SurveyQuestion of(String itemName, String itemDescription, SurveyItemType itemType, ItemRequired required, List<SurveyQuestionOption> options) {
-        return new SurveyQuestion(null, itemName, itemDescription, itemType, required, null, options);
+        List<SurveyQuestionOption> questionOptions = options == null ? new ArrayList<>() : new ArrayList<>(options);
+        SurveyQuestion surveyQuestion = new SurveyQuestion(null, itemName, itemDescription, itemType, required, null, questionOptions, null, null);
+        surveyQuestion.publishRevision();
+        return surveyQuestion;
     }
 
     public static SurveyQuestion from(SurveyQuestionDto questionRequest) {
@@ -72,8 +96,60 @@ public class SurveyQuestion {
         this.itemDescription = questionRequest.getDescription();
         this.itemType = questionRequest.getType();
         this.required = questionRequest.getRequired();
-        this.options = questionRequest.getOptions().stream()
+        updateOptions(questionRequest.getOptions().stream()
                 .map(SurveyQuestionOption::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+
+        // 내용이 바뀐 경우에만 새 revision 발행, 기존 응답은 이전 revision 을 그대로 참조
+        if (currentRevision == null || !currentRevision.isSameAs(this)) {
+            publishRevision();
+        }
+    }
+
+    /*
+     * 부분 수정 (null 인 항목은 유지), 질문 유형과 옵션은 바꾸지 않는다.
+     * */
+    public void patch(String itemName, String itemDescription, ItemRequired required) {
+        if (!StringUtils.isBlank(itemName)) {
+            this.itemName = itemName;
+        }
+        if (itemDescription != null) {
+            this.itemDescription = itemDescription;
+        }
+        if (required != null) {
+            this.required = required;
+        }
+
+        if (currentRevision == null || !currentRevision.isSameAs(this)) {
+            publishRevision();
+        }
+    }
+
+    /*
+     * 옵션 목록을 새 리스트로 교체하면 Hibernate 가 기존 옵션 행을 모두 삭제하고 다시 insert 하므로,
+     * 기존 리스트를 순서 기준으로 비교하여 바뀐 위치만 교체하고 늘어난 옵션은 추가, 줄어든 옵션은 뒤에서부터 제거한다.
+     * */
+    private void updateOptions(List<SurveyQuestionOption> updatedOptions) {
+        if (options == null) {
+            options = new ArrayList<>(updatedOptions);
+            return;
+        }
+
+        int commonSize = Math.min(options.size(), updatedOptions.size());
+        for (int i = 0; i < commonSize; i++) {
+            if (!options.get(i).equals(updatedOptions.get(i))) {
+                options.set(i, updatedOptions.get(i));
+            }
+        }
+        for (int i = options.size() - 1; i >= updatedOptions.size(); i--) {
+            options.remove(i);
+        }
+        for (int i = commonSize; i < updatedOptions.size(); i++) {
+            options.add(updatedOptions.get(i));
+        }
+    }
+
+    private void publishRevision() {
+        this.currentRevision = SurveyQuestionRevision.from(this, currentRevision);
     }
 }
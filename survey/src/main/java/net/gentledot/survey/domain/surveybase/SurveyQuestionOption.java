@@ -3,6 +3,7 @@ package net.gentledot.survey.domain.surveybase;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -13,6 +14,7 @@ import net.gentledot.survey.domain.surveybase.dto.SurveyQuestionOptionDto;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 @ToString
+@EqualsAndHashCode
 @Embeddable
 public class SurveyQuestionOption {
     private String optionText;
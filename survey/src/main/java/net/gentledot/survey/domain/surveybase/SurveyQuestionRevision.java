@@ -0,0 +1,74 @@
+package net.gentledot.survey.domain.surveybase;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import net.gentledot.survey.domain.common.BaseEntity;
+import net.gentledot.survey.domain.surveyanswer.SurveyQuestionSnapshot;
+import org.hibernate.annotations.Immutable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 특정 시점의 질문 항목과 옵션 목록을 담은 불변 revision.
+ * 질문이 생성될 때, 그리고 수정으로 내용이 바뀔 때마다 새로 만들어지며
+ * 응답은 질문 항목을 복사하지 않고 revision ID 와 옵션 순서(ordinal)만 저장한다.
+ * */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+@Immutable
+@Entity
+public class SurveyQuestionRevision extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_question_revision_seq")
+    @SequenceGenerator(name = "survey_question_revision_seq", sequenceName = "survey_question_revision_seq", allocationSize = 50)
+    private Long id;
+
+    // 질문별 revision 순번 (1부터 시작)
+    private int revisionNumber;
+
+    @Embedded
+    private SurveyQuestionSnapshot question;
+
+    @ElementCollection
+    @CollectionTable(name = "survey_question_revision_option", joinColumns = @JoinColumn(name = "question_revision_id"))
+    @OrderColumn(name = "option_index")
+    @Column(name = "option_text")
+    private List<String> options;
+
+    public static SurveyQuestionRevision from(SurveyQuestion surveyQuestion, SurveyQuestionRevision previousRevision) {
+        int revisionNumber = previousRevision == null ? 1 : previousRevision.getRevisionNumber() + 1;
+        return new SurveyQuestionRevision(null, revisionNumber, SurveyQuestionSnapshot.from(surveyQuestion), optionTextsOf(surveyQuestion));
+    }
+
+    public boolean isSameAs(SurveyQuestion surveyQuestion) {
+        return question.equals(SurveyQuestionSnapshot.from(surveyQuestion))
+               && options.equals(optionTextsOf(surveyQuestion));
+    }
+
+    private static List<String> optionTextsOf(SurveyQuestion surveyQuestion) {
+        List<String> optionTexts = new ArrayList<>();
+        if (surveyQuestion.getOptions() != null) {
+            for (SurveyQuestionOption option : surveyQuestion.getOptions()) {
+                optionTexts.add(option.getOptionText());
+            }
+        }
+        return optionTexts;
+    }
+}
@@ -0,0 +1,74 @@
+package net.gentledot.survey.domain.surveybase.definition;
+
+import lombok.Getter;
+import lombok.ToString;
+import net.gentledot.survey.domain.surveybase.Survey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+ * 응답 검증/제출에 필요한 서베이 정보만 담은 불변 객체.
+ * 생성 시점에 질문 ID 조회용 Map 을 한 번만 만들어 두고(검증 계획), 캐시를 통해 여러 요청에서 공유한다.
+ * 서베이가 수정되면 수정된 서베이 버전(version)으로 새 정의를 만들어 교체하며(copy-on-write), 기존 정의는 변경하지 않는다.
+ * */
+@Getter
+@ToString(exclude = "questionsById")
+public final class SurveyDefinition {
+    private final String surveyId;
+    // 정의를 만든 시점의 서베이 버전, 더 낮은 버전의 정의가 최신 정의를 덮어쓰지 않도록 비교에 사용
+    private final long version;
+    private final List<SurveyQuestionDefinition> questions;
+    private final Map<Long, SurveyQuestionDefinition> questionsById;
+
+    public SurveyDefinition(String surveyId, long version, List<SurveyQuestionDefinition> questions) {
+        this.surveyId = surveyId;
+        this.version = version;
+        this.questions = List.copyOf(questions);
+
+        Map<Long, SurveyQuestionDefinition> questionMap = new LinkedHashMap<>();
+        for (SurveyQuestionDefinition question : this.questions) {
+            questionMap.put(question.getId(), question);
+        }
+        this.questionsById = Collections.unmodifiableMap(questionMap);
+    }
+
+    public static SurveyDefinition from(Survey survey) {
+        return from(survey, survey.getVersion() == null ? 0L : survey.getVersion());
+    }
+
+    public static SurveyDefinition from(Survey survey, long version) {
+        List<SurveyQuestionDefinition> questionDefinitions = survey.getQuestions().stream()
+                .map(SurveyQuestionDefinition::from)
+                .collect(Collectors.toList());
+
+        return new SurveyDefinition(survey.getId(), version, questionDefinitions);
+    }
+
+    /*
+     * 질문 하나만 바뀐 새 정의 (나머지 질문 정의는 그대로 공유)
+     * */
+    public SurveyDefinition withQuestion(SurveyQuestionDefinition question, long version) {
+        List<SurveyQuestionDefinition> replaced = new ArrayList<>(questions.size());
+        for (SurveyQuestionDefinition existing : questions) {
+            replaced.add(existing.getId().equals(question.getId()) ? question : existing);
+        }
+        return new SurveyDefinition(surveyId, version, replaced);
+    }
+
+    public boolean isNewerThan(SurveyDefinition other) {
+        return version > other.version;
+    }
+
+    public SurveyQuestionDefinition getQuestion(Long questionId) {
+        return questionsById.get(questionId);
+    }
+
+    public int getQuestionCount() {
+        return questionsById.size();
+    }
+}
@@ -0,0 +1,85 @@
+package net.gentledot.survey.domain.surveybase.definition;
+
+import lombok.Getter;
+import lombok.ToString;
+import net.gentledot.survey.domain.enums.ItemRequired;
+import net.gentledot.survey.domain.enums.SurveyItemType;
+import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@ToString(exclude = "optionIndexes")
+public final class SurveyQuestionDefinition {
+    private final Long id;
+    private final Long revisionId;
+    private final String itemName;
+    private final String itemDescription;
+    private final SurveyItemType itemType;
+    private final ItemRequired required;
+    private final List<String> options;
+    // 옵션 텍스트 -> 옵션 순서, 응답 값 검증과 선택 항목 정렬에 사용
+    private final Map<String, Integer> optionIndexes;
+
+    public SurveyQuestionDefinition(Long id, Long revisionId, String itemName, String itemDescription, SurveyItemType itemType, ItemRequired required, List<String> options) {
+        this.id = id;
+        this.revisionId = revisionId;
+        this.itemName = itemName;
+        this.itemDescription = itemDescription;
+        this.itemType = itemType;
+        this.required = required;
+        // 옵션 텍스트에 null 이 포함될 수 있어 List.copyOf 대신 읽기 전용 복사본을 사용
+        this.options = options == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(options));
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < this.options.size(); i++) {
+            indexes.putIfAbsent(this.options.get(i), i);
+        }
+        this.optionIndexes = Collections.unmodifiableMap(indexes);
+    }
+
+    public static SurveyQuestionDefinition from(SurveyQuestion question) {
+        List<String> optionTexts = new ArrayList<>();
+        if (question.getOptions() != null) {
+            for (SurveyQuestionOption option : question.getOptions()) {
+                optionTexts.add(option.getOptionText());
+            }
+        }
+
+        Long revisionId = question.getCurrentRevision() == null ? null : question.getCurrentRevision().getId();
+
+        return new SurveyQuestionDefinition(
+                question.getId(),
+                revisionId,
+                question.getItemName(),
+                question.getItemDescription(),
+                question.getItemType(),
+                question.getRequired(),
+                optionTexts
+        );
+    }
+
+    public boolean isRequiredItem() {
+        return ItemRequired.REQUIRED.equals(required);
+    }
+
+    public boolean isSelectable() {
+        return SurveyItemType.SINGLE_SELECT.equals(itemType) || SurveyItemType.MULTI_SELECT.equals(itemType);
+    }
+
+    public boolean hasOption(String optionText) {
+        return optionIndexes.containsKey(optionText);
+    }
+
+    /*
+     * 옵션 순서를 반환하며, 존재하지 않는 옵션이면 -1
+     * */
+    public int indexOf(String optionText) {
+        return optionIndexes.getOrDefault(optionText, -1);
+    }
+}
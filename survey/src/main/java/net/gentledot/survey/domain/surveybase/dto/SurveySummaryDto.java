@@ -0,0 +1,17 @@
+package net.gentledot.survey.domain.surveybase.dto;
+
+import java.time.LocalDateTime;
+
+/*
+ * 서베이 목록 조회용 projection (질문/옵션 엔티티를 읽지 않고 한 번의 쿼리로 집계)
+ * */
+public record SurveySummaryDto(
+        String surveyId,
+        String name,
+        Long questionCount,
+        Long answerCount,
+        Long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
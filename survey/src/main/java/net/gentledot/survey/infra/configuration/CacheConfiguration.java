@@ -0,0 +1,13 @@
+package net.gentledot.survey.infra.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * 캐시 크기와 만료 정책은 application.properties 의 spring.cache.caffeine.spec 으로 설정한다.
+ * */
+@EnableCaching
+@Configuration
+public class CacheConfiguration {
+    public static final String SURVEY_DEFINITION_CACHE = "surveyDefinition";
+}
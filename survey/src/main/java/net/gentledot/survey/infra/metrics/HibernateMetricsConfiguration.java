@@ -0,0 +1,37 @@
+package net.gentledot.survey.infra.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/*
+ * 요청 단위 Hibernate 통계 수집 설정.
+ * 컨트롤러 엔드포인트(http.server.requests)와 repository 호출(spring.data.repository.invocations) 지연 시간은
+ * Spring Boot Actuator 기본 지표를 사용한다.
+ * */
+@Configuration
+public class HibernateMetricsConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateRequestStatisticsCustomizer() {
+        HibernateRequestStatisticsListener listener = new HibernateRequestStatisticsListener();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, listener);
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(listener));
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<HibernateRequestStatisticsFilter> hibernateRequestStatisticsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<HibernateRequestStatisticsFilter> registration = new FilterRegistrationBean<>(new HibernateRequestStatisticsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
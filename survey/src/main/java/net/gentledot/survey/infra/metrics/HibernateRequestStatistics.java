@@ -0,0 +1,63 @@
+package net.gentledot.survey.infra.metrics;
+
+/*
+ * 요청 처리 스레드 단위의 Hibernate 실행 통계 (SQL 실행, 엔티티 로드, 컬렉션 초기화 횟수).
+ * 전역 Hibernate Statistics 는 동시 요청의 값이 섞이므로 요청 스레드에 카운터를 두고 집계한다.
+ * begin() 을 호출하지 않은 스레드(스케줄러, 비동기 저장 등)에서는 집계하지 않는다.
+ * */
+public final class HibernateRequestStatistics {
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private HibernateRequestStatistics() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new Counts());
+    }
+
+    public static Snapshot end() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts == null ? Snapshot.EMPTY : counts.snapshot();
+    }
+
+    public static Snapshot current() {
+        Counts counts = CURRENT.get();
+        return counts == null ? Snapshot.EMPTY : counts.snapshot();
+    }
+
+    static void statementPrepared() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    static void collectionFetched() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.collectionFetches++;
+        }
+    }
+
+    public record Snapshot(long statements, long entityLoads, long collectionFetches) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0);
+    }
+
+    private static final class Counts {
+        private long statements;
+        private long entityLoads;
+        private long collectionFetches;
+
+        private Snapshot snapshot() {
+            return new Snapshot(statements, entityLoads, collectionFetches);
+        }
+    }
+}
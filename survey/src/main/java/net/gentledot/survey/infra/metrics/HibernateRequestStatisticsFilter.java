@@ -0,0 +1,63 @@
+package net.gentledot.survey.infra.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/*
+ * 요청마다 실행된 SQL 수, 엔티티 로드 수, 컬렉션 초기화 수를 uri 패턴별 분포로 기록한다.
+ * (hibernate.request.statements / hibernate.request.entity.loads / hibernate.request.collection.fetches)
+ * */
+public class HibernateRequestStatisticsFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_METRIC = "hibernate.request.statements";
+    public static final String ENTITY_LOADS_METRIC = "hibernate.request.entity.loads";
+    public static final String COLLECTION_FETCHES_METRIC = "hibernate.request.collection.fetches";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public HibernateRequestStatisticsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        HibernateRequestStatistics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            HibernateRequestStatistics.Snapshot snapshot = HibernateRequestStatistics.end();
+            String method = request.getMethod();
+            String uri = resolveUri(request);
+            summary(STATEMENTS_METRIC, "요청당 실행된 SQL 수", method, uri).record(snapshot.statements());
+            summary(ENTITY_LOADS_METRIC, "요청당 로드된 엔티티 수", method, uri).record(snapshot.entityLoads());
+            summary(COLLECTION_FETCHES_METRIC, "요청당 초기화된 지연 컬렉션 수", method, uri).record(snapshot.collectionFetches());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+
+    private static String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package net.gentledot.survey.infra.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/*
+ * SQL 준비(StatementInspector), 엔티티 로드(POST_LOAD), 지연 컬렉션 초기화(INIT_COLLECTION) 시점에
+ * HibernateRequestStatistics 카운터를 증가시킨다. SQL 은 변경하지 않는다.
+ * */
+public class HibernateRequestStatisticsListener implements StatementInspector, PostLoadEventListener,
+        InitializeCollectionEventListener, Integrator {
+
+    @Override
+    public String inspect(String sql) {
+        HibernateRequestStatistics.statementPrepared();
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        HibernateRequestStatistics.entityLoaded();
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        HibernateRequestStatistics.collectionFetched();
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry listenerRegistry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        listenerRegistry.appendListeners(EventType.POST_LOAD, this);
+        listenerRegistry.appendListeners(EventType.INIT_COLLECTION, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
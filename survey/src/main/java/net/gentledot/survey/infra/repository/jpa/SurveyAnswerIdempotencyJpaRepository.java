@@ -0,0 +1,22 @@
+package net.gentledot.survey.infra.repository.jpa;
+
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerIdempotency;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SurveyAnswerIdempotencyJpaRepository extends JpaRepository<SurveyAnswerIdempotency, Long> {
+    Optional<SurveyAnswerIdempotency> findBySurveyIdAndIdempotencyKey(String surveyId, String idempotencyKey);
+
+    List<SurveyAnswerIdempotency> findAllByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    // 재시작 시 최근 키로 Bloom filter 를 채우기 위한 조회
+    @Query("SELECT k.surveyId, k.idempotencyKey FROM SurveyAnswerIdempotency k WHERE k.createdAt >= :since ORDER BY k.id DESC")
+    List<Object[]> findRecentKeys(@Param("since") LocalDateTime since, Pageable pageable);
+}
@@ -1,13 +1,64 @@
 package net.gentledot.survey.infra.repository.jpa;
 
+import jakarta.persistence.QueryHint;
 import net.gentledot.survey.domain.surveyanswer.SurveyAnswer;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerSubmission;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface SurveyAnswerJpaRepository extends JpaRepository<SurveyAnswer, Long> {
     @Query("SELECT sa FROM SurveyAnswer sa WHERE sa.survey.id = :surveyId")
     List<SurveyAnswer> findAllBySurveyId(@Param("surveyId") String surveyId);
+
+    // (survey_id, id) 인덱스 범위 스캔으로 커서 이후의 응답만 조회
+    @Query("SELECT sa.id FROM SurveyAnswer sa WHERE sa.survey.id = :surveyId AND sa.id > :cursor ORDER BY sa.id ASC")
+    List<Long> findIdPageBySurveyId(@Param("surveyId") String surveyId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 질문 이름 / 응답 값 조건에 일치하는 제출 항목이 있는 응답만 조회
+    @Query("""
+            SELECT sa.id FROM SurveyAnswer sa
+            WHERE sa.survey.id = :surveyId
+              AND sa.id > :cursor
+              AND EXISTS (
+                  SELECT 1 FROM SurveyAnswerSubmission s JOIN s.questionRevision qr
+                  WHERE s.surveyAnswer = sa
+                    AND (:questionName IS NULL OR LOWER(qr.question.itemName) = LOWER(:questionName))
+                    AND (:answerPattern IS NULL
+                         OR s.surveyQuestionAnswerSnapshot.textInputAnswer.text LIKE :answerPattern ESCAPE '\\'
+                         OR EXISTS (
+                             SELECT 1 FROM SurveyQuestionRevision r JOIN r.options o
+                             WHERE r = qr
+                               AND o LIKE :answerPattern ESCAPE '\\'
+                               AND substring(s.surveyQuestionAnswerSnapshot.selectionAnswer.selectedOptions, index(o) + 1, 1) = '1'
+                         ))
+              )
+            ORDER BY sa.id ASC
+            """)
+    List<Long> findFilteredIdPageBySurveyId(@Param("surveyId") String surveyId,
+                                                    @Param("questionName") String questionName,
+                                                    @Param("answerPattern") String answerPattern,
+                                                    @Param("cursor") Long cursor,
+                                                    Pageable pageable);
+
+    // 페이지에 포함된 응답과 제출 항목, 질문 revision 을 한 번의 fetch join 으로 조회
+    @Query("SELECT DISTINCT sa FROM SurveyAnswer sa LEFT JOIN FETCH sa.answers s LEFT JOIN FETCH s.questionRevision WHERE sa.id IN :ids ORDER BY sa.id ASC")
+    List<SurveyAnswer> findAllWithAnswersByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 응답 ID 순으로 정렬된 제출 항목을 커서 방식으로 순차 조회 (export 용)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM SurveyAnswerSubmission s LEFT JOIN FETCH s.questionRevision WHERE s.surveyAnswer.survey.id = :surveyId ORDER BY s.surveyAnswer.id ASC, s.id ASC")
+    Stream<SurveyAnswerSubmission> streamAllBySurveyId(@Param("surveyId") String surveyId);
 }
@@ -3,5 +3,8 @@ package net.gentledot.survey.infra.repository.jpa;
 import net.gentledot.survey.domain.surveybase.SurveyQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface SurveyJpaQuestionRepository extends JpaRepository<SurveyQuestion, Long> {
+    Optional<SurveyQuestion> findByIdAndSurveyId(Long id, String surveyId);
 }
@@ -1,7 +1,95 @@
 package net.gentledot.survey.infra.repository.jpa;
 
 import net.gentledot.survey.domain.surveybase.Survey;
+import net.gentledot.survey.domain.surveybase.dto.SurveySummaryDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface SurveyJpaRepository extends JpaRepository<Survey, String> {
+
+    @Query("select s.version from Survey s where s.id = :surveyId")
+    Optional<Long> findVersionById(@Param("surveyId") String surveyId);
+
+    /*
+     * 서베이 목록 첫 페이지, (created_at, id) 인덱스를 역순으로 읽고 질문 수는 페이지에 포함된 서베이만 집계
+     * 응답 수는 응답 행을 세지 않고 통계 반영 주기에 갱신되는 answer_count 컬럼을 읽는다.
+     * */
+    @Query("""
+            select new net.gentledot.survey.domain.surveybase.dto.SurveySummaryDto(
+                       s.id, s.name,
+                       (select count(q) from SurveyQuestion q where q.survey = s),
+                       s.answerCount,
+                       s.version, s.createdAt, s.updatedAt)
+              from Survey s
+             order by s.createdAt desc, s.id desc
+            """)
+    List<SurveySummaryDto> findSummaryPage(Pageable pageable);
+
+    /*
+     * 커서(이전 페이지 마지막 서베이의 생성 시각, ID) 이후의 서베이 목록
+     * */
+    @Query("""
+            select new net.gentledot.survey.domain.surveybase.dto.SurveySummaryDto(
+                       s.id, s.name,
+                       (select count(q) from SurveyQuestion q where q.survey = s),
+                       s.answerCount,
+                       s.version, s.createdAt, s.updatedAt)
+              from Survey s
+             where s.createdAt <= :createdAt
+               and (s.createdAt < :createdAt or s.id < :surveyId)
+             order by s.createdAt desc, s.id desc
+            """)
+    List<SurveySummaryDto> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("surveyId") String surveyId,
+                                                Pageable pageable);
+
+    /*
+     * 모아 둔 응답 수 증가분을 반영 (버전/수정 시각은 바꾸지 않음)
+     * */
+    @Modifying
+    @Query("update Survey s set s.answerCount = s.answerCount + :delta where s.id = :surveyId")
+    int increaseAnswerCount(@Param("surveyId") String surveyId, @Param("delta") long delta);
+
+    /*
+     * 서베이 제목/설명만 수정 (제목은 null 이면 유지, 설명은 입력된 경우에만 null 포함 그대로 반영),
+     * 요청한 버전과 일치하는 경우에만 반영하고 버전을 올린다.
+     * */
+    @Modifying
+    @Query("""
+            update Survey s
+               set s.name = coalesce(:name, s.name),
+                   s.description = case when :descriptionPresent = true then :description else s.description end,
+                   s.version = s.version + 1,
+                   s.updatedAt = :updatedAt
+             where s.id = :surveyId
+               and s.version = :version
+            """)
+    int updateNameAndDescription(@Param("surveyId") String surveyId,
+                                 @Param("version") long version,
+                                 @Param("name") String name,
+                                 @Param("descriptionPresent") boolean descriptionPresent,
+                                 @Param("description") String description,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
+    /*
+     * 질문 단위 수정 시 서베이 전체를 읽지 않고 버전만 확인 후 올린다.
+     * */
+    @Modifying
+    @Query("""
+            update Survey s
+               set s.version = s.version + 1,
+                   s.updatedAt = :updatedAt
+             where s.id = :surveyId
+               and s.version = :version
+            """)
+    int incrementVersion(@Param("surveyId") String surveyId,
+                         @Param("version") long version,
+                         @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,23 @@
+package net.gentledot.survey.infra.repository.jpa;
+
+import net.gentledot.survey.domain.statistics.SurveyOptionStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SurveyOptionStatisticJpaRepository extends JpaRepository<SurveyOptionStatistic, Long> {
+    List<SurveyOptionStatistic> findAllBySurveyIdOrderByQuestionIdAscIdAsc(String surveyId);
+
+    @Modifying
+    @Query("""
+            UPDATE SurveyOptionStatistic s SET s.answerCount = s.answerCount + :delta
+            WHERE s.surveyId = :surveyId AND s.questionId = :questionId AND s.optionText = :optionText
+            """)
+    int increaseAnswerCount(@Param("surveyId") String surveyId,
+                            @Param("questionId") Long questionId,
+                            @Param("optionText") String optionText,
+                            @Param("delta") long delta);
+}
@@ -1,5 +1,6 @@
 package net.gentledot.survey.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -7,26 +8,46 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import net.gentledot.survey.application.service.SurveyAnswerAsyncSubmissionService;
 import net.gentledot.survey.application.service.SurveyAnswerService;
+import net.gentledot.survey.application.service.SurveyLiveResultService;
 import net.gentledot.survey.application.service.SurveyService;
+import net.gentledot.survey.application.service.SurveyStatisticsService;
 import net.gentledot.survey.application.service.in.model.request.SearchSurveyAnswerRequest;
 import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
 import net.gentledot.survey.application.service.in.model.request.SurveyCreateRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyPatchRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyQuestionPatchRequest;
 import net.gentledot.survey.application.service.in.model.request.SurveyUpdateRequest;
+import net.gentledot.survey.application.service.in.model.response.BulkSubmitSurveyAnswerResponse;
 import net.gentledot.survey.application.service.in.model.response.SearchSurveyAnswerResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyAnswerReceipt;
+import net.gentledot.survey.application.service.in.model.response.SurveyCatalogResponse;
 import net.gentledot.survey.application.service.in.model.response.SurveyCreateResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyPatchResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyStatisticsResponse;
 import net.gentledot.survey.application.service.in.model.response.SurveyUpdateResponse;
 import net.gentledot.survey.domain.common.ServiceResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Tag(name = "Survey", description = "서베이 서비스 API")
@@ -35,10 +56,27 @@ import java.util.List;
 public class SurveyController {
     private final SurveyService surveyService;
     private final SurveyAnswerService surveyAnswerService;
+    private final SurveyStatisticsService surveyStatisticsService;
+    private final SurveyAnswerAsyncSubmissionService surveyAnswerAsyncSubmissionService;
+    private final SurveyLiveResultService surveyLiveResultService;
+    private final ObjectMapper objectMapper;
 
-    public SurveyController(SurveyService surveyService, SurveyAnswerService surveyAnswerService) {
+    public SurveyController(SurveyService surveyService, SurveyAnswerService surveyAnswerService, SurveyStatisticsService surveyStatisticsService, SurveyAnswerAsyncSubmissionService surveyAnswerAsyncSubmissionService, SurveyLiveResultService surveyLiveResultService, ObjectMapper objectMapper) {
         this.surveyService = surveyService;
         this.surveyAnswerService = surveyAnswerService;
+        this.surveyStatisticsService = surveyStatisticsService;
+        this.surveyAnswerAsyncSubmissionService = surveyAnswerAsyncSubmissionService;
+        this.surveyLiveResultService = surveyLiveResultService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(summary = "서베이 목록 조회", description = "서베이 목록을 최근 생성 순으로 조회합니다. 질문/응답 수를 함께 반환하며, 다음 페이지는 응답의 nextCursor 로 조회합니다.")
+    @GetMapping
+    public ResponseEntity<ServiceResponse<SurveyCatalogResponse>> getSurveyCatalog(
+            @Parameter(description = "이전 페이지의 nextCursor", required = false) @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", required = false) @RequestParam(value = "size", required = false) Integer size) {
+        SurveyCatalogResponse catalog = surveyService.getSurveyCatalog(cursor, size);
+        return ResponseEntity.ok(ServiceResponse.success(catalog));
     }
 
     @Operation(summary = "서베이 생성", description = "새로운 서베이를 생성합니다.")
@@ -114,10 +152,47 @@ public class SurveyController {
         return ResponseEntity.ok(ServiceResponse.success(updateResult));
     }
 
-    @Operation(summary = "서베이 응답 제출", description = "대상 서베이에 응답을 제출합니다.")
+    @Operation(summary = "서베이 부분 수정", description = "서베이 제목/설명 중 입력한 항목만 수정합니다. 설명을 null 로 입력하면 설명을 지웁니다. 요청한 version 이 현재 버전과 다르면 409 를 반환합니다.")
+    @PatchMapping("/{surveyId}")
+    public ResponseEntity<ServiceResponse<SurveyPatchResponse>> patchSurvey(
+            @Parameter(description = "서베이 ID", required = true) @PathVariable("surveyId") String surveyId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "서베이 부분 수정 요청", required = true, content = @Content(
+                    schema = @Schema(implementation = SurveyPatchRequest.class),
+                    examples = @ExampleObject(value = """
+                                {
+                                    "version": 0,
+                                    "name": "Patched Survey"
+                                }
+                            """)))
+            @Valid @RequestBody SurveyPatchRequest patchRequest) {
+        SurveyPatchResponse patchResult = surveyService.patchSurvey(surveyId, patchRequest);
+        return ResponseEntity.ok(ServiceResponse.success(patchResult));
+    }
+
+    @Operation(summary = "서베이 질문 부분 수정", description = "질문 하나의 질문/설명/필수 여부 중 입력한 항목만 수정합니다. 요청한 version 이 현재 서베이 버전과 다르면 409 를 반환합니다.")
+    @PatchMapping("/{surveyId}/question/{questionId}")
+    public ResponseEntity<ServiceResponse<SurveyPatchResponse>> patchSurveyQuestion(
+            @Parameter(description = "서베이 ID", required = true) @PathVariable("surveyId") String surveyId,
+            @Parameter(description = "질문 ID", required = true) @PathVariable("questionId") Long questionId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "서베이 질문 부분 수정 요청", required = true, content = @Content(
+                    schema = @Schema(implementation = SurveyQuestionPatchRequest.class),
+                    examples = @ExampleObject(value = """
+                                {
+                                    "version": 0,
+                                    "question": "Patched Question",
+                                    "required": "OPTIONAL"
+                                }
+                            """)))
+            @Valid @RequestBody SurveyQuestionPatchRequest patchRequest) {
+        SurveyPatchResponse patchResult = surveyService.patchSurveyQuestion(surveyId, questionId, patchRequest);
+        return ResponseEntity.ok(ServiceResponse.success(patchResult));
+    }
+
+    @Operation(summary = "서베이 응답 제출", description = "대상 서베이에 응답을 제출합니다. 비동기 제출이 활성화된 경우 검증 후 접수 ID 와 함께 202 를 반환하고 응답은 이후 일괄 저장됩니다. Idempotency-Key 헤더를 포함하면 같은 키로 재시도한 요청은 다시 저장하지 않고 처음 처리 결과로 응답합니다.")
     @PostMapping("/{surveyId}/answer")
-    public ResponseEntity<ServiceResponse<Void>> submitSurveyAnswer(
+    public ResponseEntity<ServiceResponse<SurveyAnswerReceipt>> submitSurveyAnswer(
             @Parameter(description = "서베이 ID", required = true) @PathVariable("surveyId") String surveyId,
+            @Parameter(description = "중복 제출 방지 키 (최대 100자)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "서베이 응답 요청", required = true, content = @Content(
                     schema = @Schema(implementation = SubmitSurveyAnswer.class),
                     examples = @ExampleObject(value = """
@@ -133,20 +208,92 @@ public class SurveyController {
                                 ]
                             """)))
             @RequestBody List<SubmitSurveyAnswer> answer) {
-        surveyAnswerService.submitSurveyAnswer(surveyId, answer);
+        if (surveyAnswerAsyncSubmissionService.isEnabled()) {
+            SurveyAnswerReceipt receipt = surveyAnswerAsyncSubmissionService.acceptSurveyAnswer(surveyId, answer, idempotencyKey);
+            return ResponseEntity.accepted().body(ServiceResponse.success(receipt));
+        }
+
+        surveyAnswerService.submitSurveyAnswer(surveyId, answer, idempotencyKey);
         return ResponseEntity.ok(ServiceResponse.success(null));
     }
 
+    @Operation(summary = "서베이 응답 일괄 제출", description = "여러 응답자의 응답을 한 번에 제출합니다. 응답별 처리 결과를 요청 순서대로 반환합니다.")
+    @PostMapping("/{surveyId}/answer/bulk")
+    public ResponseEntity<ServiceResponse<BulkSubmitSurveyAnswerResponse>> submitSurveyAnswers(
+            @Parameter(description = "서베이 ID", required = true) @PathVariable("surveyId") String surveyId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "서베이 응답 일괄 제출 요청", required = true, content = @Content(
+                    examples = @ExampleObject(value = """
+                                [
+                                    [
+                                        {"questionId": 1, "answer": ["홍길동"]},
+                                        {"questionId": 2, "answer": ["좋아요"]}
+                                    ],
+                                    [
+                                        {"questionId": 1, "answer": ["김철수"]},
+                                        {"questionId": 2, "answer": ["안좋아요"]}
+                                    ]
+                                ]
+                            """)))
+            @RequestBody List<List<SubmitSurveyAnswer>> submissions) {
+        BulkSubmitSurveyAnswerResponse submitResult = surveyAnswerService.submitSurveyAnswers(surveyId, submissions);
+        return ResponseEntity.ok(ServiceResponse.success(submitResult));
+    }
 
     @Operation(summary = "서베이 응답 조회", description = "대상 서베이에 제출된 응답을 조회합니다.")
     @GetMapping("/{surveyId}/answer/all")
     public ResponseEntity<ServiceResponse<SearchSurveyAnswerResponse>> getAllSurveyAnswersWithQuery(
             @Parameter(description = "서베이 ID", required = true) @PathVariable("surveyId") String surveyId,
             @Parameter(description = "질문 이름", required = false) @RequestParam(value = "questionName", required = false) String questionName,
-            @Parameter(description = "응답 값", required = false) @RequestParam(value = "answer", required = false) String answerValue) {
-        SearchSurveyAnswerRequest request = SearchSurveyAnswerRequest.fromRequest(surveyId, questionName, answerValue);
+            @Parameter(description = "응답 값", required = false) @RequestParam(value = "answer", required = false) String answerValue,
+            @Parameter(description = "이전 페이지의 nextCursor", required = false) @RequestParam(value = "cursor", required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", required = false) @RequestParam(value = "size", required = false) Integer size) {
+        SearchSurveyAnswerRequest request = SearchSurveyAnswerRequest.fromRequest(surveyId, questionName, answerValue, cursor, size);
         SearchSurveyAnswerResponse surveyAnswers = surveyAnswerService.getSurveyAnswers(request);
         return ResponseEntity.ok(ServiceResponse.success(surveyAnswers));
     }
 
+    @Operation(summary = "서베이 통계 조회", description = "선택형 질문의 옵션별 선택 횟수를 조회합니다.")
+    @GetMapping("/{surveyId}/statistics")
+    public ResponseEntity<ServiceResponse<SurveyStatisticsResponse>> getSurveyStatistics(
+            @Parameter(description = "서베이 ID", required = true) @PathVariable("surveyId") String surveyId) {
+        SurveyStatisticsResponse statistics = surveyStatisticsService.getStatistics(surveyId);
+        return ResponseEntity.ok(ServiceResponse.success(statistics));
+    }
+
+    @Operation(summary = "서베이 실시간 결과 구독", description = "대상 서베이에 새로 제출된 응답 수와 옵션 선택 횟수 증가분을 Server-Sent Events(delta 이벤트)로 전송 주기마다 합산하여 전달합니다.")
+    @GetMapping(value = "/{surveyId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLiveResults(
+            @Parameter(description = "서베이 ID", required = true) @PathVariable("surveyId") String surveyId) {
+        return surveyLiveResultService.subscribe(surveyId);
+    }
+
+    @Operation(summary = "서베이 응답 내보내기", description = "대상 서베이에 제출된 전체 응답을 한 줄에 하나씩 NDJSON 형식으로 스트리밍합니다.")
+    @GetMapping(value = "/{surveyId}/answer/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSurveyAnswers(
+            @Parameter(description = "서베이 ID", required = true) @PathVariable("surveyId") String surveyId) {
+        // 스트리밍 시작 전에 존재 여부를 확인해야 오류 응답을 정상적으로 반환할 수 있음
+        surveyAnswerService.verifySurveyExists(surveyId);
+
+        StreamingResponseBody responseBody = outputStream -> {
+            surveyAnswerService.exportSurveyAnswers(surveyId, answerValue -> writeLine(outputStream, answerValue));
+            outputStream.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("survey-" + surveyId + "-answers.ndjson")
+                        .build()
+                        .toString())
+                .body(responseBody);
+    }
+
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
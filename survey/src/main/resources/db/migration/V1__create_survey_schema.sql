@@ -0,0 +1,139 @@
+-- 서베이 초기 스키마 (prod 프로필, spring.jpa.hibernate.ddl-auto=validate 로 엔티티와 일치 여부를 검증)
+
+create sequence survey_answer_idempotency_seq start with 1 increment by 50;
+
+create sequence survey_answer_seq start with 1 increment by 50;
+
+create sequence survey_answer_submission_seq start with 1 increment by 50;
+
+create sequence survey_question_revision_seq start with 1 increment by 50;
+
+create sequence survey_question_seq start with 1 increment by 50;
+
+create table survey (
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    description varchar(255),
+    id varchar(255) not null,
+    name varchar(255),
+    primary key (id)
+);
+
+create table survey_question_option (
+    survey_question_id bigint not null,
+    option_text varchar(255)
+);
+
+create table survey_question_revision_option (
+    option_index integer not null,
+    question_revision_id bigint not null,
+    option_text varchar(255),
+    primary key (option_index, question_revision_id)
+);
+
+create table survey_answer (
+    created_at timestamp(6) not null,
+    id bigint not null,
+    updated_at timestamp(6) not null,
+    survey_id varchar(255),
+    primary key (id)
+);
+
+create table survey_answer_idempotency (
+    answer_id bigint,
+    created_at timestamp(6) not null,
+    id bigint not null,
+    updated_at timestamp(6) not null,
+    idempotency_key varchar(100) not null,
+    receipt_id varchar(255),
+    survey_id varchar(255) not null,
+    primary key (id),
+    constraint uk_survey_answer_idempotency unique (survey_id, idempotency_key)
+);
+
+create table survey_answer_submission (
+    max_length integer,
+    date_time_value timestamp(6),
+    id bigint not null,
+    question_revision_id bigint,
+    selected_option_mask bigint,
+    survey_answer_id bigint,
+    file_name varchar(255),
+    format varchar(255),
+    media_type varchar(255),
+    path varchar(255),
+    text varchar(255),
+    primary key (id)
+);
+
+create table survey_option_statistic (
+    answer_count bigint not null,
+    id bigint generated by default as identity,
+    question_id bigint,
+    option_text varchar(255),
+    survey_id varchar(255),
+    primary key (id),
+    constraint uk_survey_option_statistic unique (survey_id, question_id, option_text)
+);
+
+create table survey_question (
+    current_revision_id bigint,
+    id bigint not null,
+    item_description varchar(255),
+    item_name varchar(255),
+    survey_id varchar(255),
+    item_type enum ('MULTI_SELECT','PARAGRAPH','SINGLE_SELECT','TEXT'),
+    required enum ('OPTIONAL','REQUIRED'),
+    primary key (id)
+);
+
+create table survey_question_revision (
+    required tinyint check (required between 0 and 1),
+    revision_number integer not null,
+    created_at timestamp(6) not null,
+    id bigint not null,
+    updated_at timestamp(6) not null,
+    item_description varchar(255),
+    item_name varchar(255),
+    answer_type enum ('ATTACHMENT','DATE_TIME','SELECTION','TEXT'),
+    item_type enum ('MULTI_SELECT','PARAGRAPH','SINGLE_SELECT','TEXT'),
+    primary key (id)
+);
+
+create index idx_survey_answer_survey_id_id
+   on survey_answer (survey_id, id);
+
+alter table survey_question_option
+   add constraint fk_survey_question_option_question
+   foreign key (survey_question_id)
+   references survey_question;
+
+alter table survey_question_revision_option
+   add constraint fk_survey_question_revision_option_revision
+   foreign key (question_revision_id)
+   references survey_question_revision;
+
+alter table survey_answer
+   add constraint fk_survey_answer_survey
+   foreign key (survey_id)
+   references survey;
+
+alter table survey_answer_submission
+   add constraint fk_survey_answer_submission_revision
+   foreign key (question_revision_id)
+   references survey_question_revision;
+
+alter table survey_answer_submission
+   add constraint fk_survey_answer_submission_answer
+   foreign key (survey_answer_id)
+   references survey_answer;
+
+alter table survey_question
+   add constraint fk_survey_question_current_revision
+   foreign key (current_revision_id)
+   references survey_question_revision;
+
+alter table survey_question
+   add constraint fk_survey_question_survey
+   foreign key (survey_id)
+   references survey;
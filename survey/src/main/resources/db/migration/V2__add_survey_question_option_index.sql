@@ -0,0 +1,22 @@
+-- 질문 옵션에 순서(option_index) 컬럼을 추가하여 (질문, 순서) 로 행을 식별
+-- 기존 옵션 행에는 순서를 나타내는 키가 없으므로, 질문의 현재 revision 옵션(option_index 로 순서가 저장됨)으로 다시 채운다.
+-- (응답의 선택 옵션도 revision 옵션 순서를 기준으로 하므로 같은 순서가 된다. 현재 revision 이 없는 질문의 옵션이 남아 있으면
+--  순서를 정할 수 없어 not null 제약 추가에서 마이그레이션이 실패한다.)
+
+alter table survey_question_option add column option_index integer;
+
+delete from survey_question_option
+ where survey_question_id in (select q.id
+                                from survey_question q
+                               where q.current_revision_id is not null);
+
+insert into survey_question_option (survey_question_id, option_index, option_text)
+select q.id, r.option_index, r.option_text
+  from survey_question q
+  join survey_question_revision_option r on r.question_revision_id = q.current_revision_id;
+
+alter table survey_question_option alter column option_index set not null;
+
+alter table survey_question_option
+   add constraint pk_survey_question_option
+   primary key (option_index, survey_question_id);
@@ -0,0 +1,3 @@
+-- 서베이 낙관적 잠금용 버전 컬럼, 기존 서베이는 0 부터 시작
+
+alter table survey add column version bigint default 0 not null;
@@ -0,0 +1,3 @@
+-- 질문 낙관적 잠금용 버전 컬럼, 기존 질문은 0 부터 시작
+
+alter table survey_question add column version bigint default 0 not null;
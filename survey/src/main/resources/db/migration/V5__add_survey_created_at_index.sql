@@ -0,0 +1,4 @@
+-- 서베이 목록의 keyset 페이지 조회 (최근 생성 순) 용 인덱스
+
+create index idx_survey_created_at_id
+   on survey (created_at, id);
@@ -0,0 +1,7 @@
+-- 서베이 목록의 응답 수 컬럼, 제출 시점이 아닌 통계 반영 주기에 증가분만 더한다.
+-- 기존 서베이는 저장된 응답 수로 채운다.
+
+alter table survey add column answer_count bigint default 0 not null;
+
+update survey s
+   set answer_count = (select count(*) from survey_answer a where a.survey_id = s.id);
@@ -0,0 +1,73 @@
+-- 선택 응답을 옵션 순서(ordinal)별 선택 여부 문자('1' 선택, '0' 미선택)로 저장하여 옵션 수 제한(63개)을 없앤다.
+-- 기존 비트 값은 옵션 순서 0~62 의 선택 여부 문자로 변환하고, 마지막으로 선택된 옵션 이후의 '0' 은 저장하지 않는다.
+
+alter table survey_answer_submission add column selected_options varchar(32600);
+
+update survey_answer_submission
+   set selected_options = trim(trailing '0' from
+          case when mod(floor(selected_option_mask / 1), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 2), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 4), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 8), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 16), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 32), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 64), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 128), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 256), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 512), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 1024), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 2048), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 4096), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 8192), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 16384), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 32768), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 65536), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 131072), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 262144), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 524288), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 1048576), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 2097152), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 4194304), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 8388608), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 16777216), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 33554432), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 67108864), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 134217728), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 268435456), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 536870912), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 1073741824), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 2147483648), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 4294967296), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 8589934592), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 17179869184), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 34359738368), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 68719476736), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 137438953472), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 274877906944), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 549755813888), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 1099511627776), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 2199023255552), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 4398046511104), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 8796093022208), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 17592186044416), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 35184372088832), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 70368744177664), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 140737488355328), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 281474976710656), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 562949953421312), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 1125899906842624), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 2251799813685248), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 4503599627370496), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 9007199254740992), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 18014398509481984), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 36028797018963968), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 72057594037927936), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 144115188075855872), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 288230376151711744), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 576460752303423488), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 1152921504606846976), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 2305843009213693952), 2) = 1 then '1' else '0' end
+       || case when mod(floor(selected_option_mask / 4611686018427387904), 2) = 1 then '1' else '0' end)
+ where selected_option_mask is not null;
+
+alter table survey_answer_submission drop column selected_option_mask;
@@ -0,0 +1,24 @@
+package net.gentledot.survey;
+
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:survey-prod-profile")
+@ActiveProfiles("prod")
+class SurveyProdProfileTests {
+
+    @Autowired
+    Flyway flyway;
+
+    @DisplayName("prod 프로필은 Flyway 마이그레이션으로 만든 스키마가 엔티티와 일치해야 기동된다. (ddl-auto=validate)")
+    @Test
+    void contextLoadsWithMigratedSchema() {
+        Assertions.assertThat(flyway.info().current()).isNotNull();
+        Assertions.assertThat(flyway.info().pending()).isEmpty();
+    }
+}
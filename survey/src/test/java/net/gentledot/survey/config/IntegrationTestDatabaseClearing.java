@@ -31,10 +31,10 @@ public class IntegrationTestDatabaseClearing {
             statement.executeUpdate("TRUNCATE TABLE survey_answer");
             statement.executeUpdate("TRUNCATE TABLE survey_question_option");
             statement.executeUpdate("TRUNCATE TABLE survey_answer_submission");
-
-            statement.executeUpdate("ALTER TABLE survey_question ALTER COLUMN id RESTART WITH 1");
-            statement.executeUpdate("ALTER TABLE survey_answer ALTER COLUMN id RESTART WITH 1");
-            statement.executeUpdate("ALTER TABLE survey_answer_submission ALTER COLUMN id RESTART WITH 1");
+            statement.executeUpdate("TRUNCATE TABLE survey_option_statistic");
+            statement.executeUpdate("TRUNCATE TABLE survey_question_revision");
+            statement.executeUpdate("TRUNCATE TABLE survey_question_revision_option");
+            statement.executeUpdate("TRUNCATE TABLE survey_answer_idempotency");
 
             statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
         } catch (Exception e) {
@@ -0,0 +1,85 @@
+package net.gentledot.survey.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/*
+ * DataSource proxy 로 실행된 SQL 을 기록하여 테스트에서 요청당 쿼리 수 상한(N+1 회귀)을 검증한다.
+ * JDBC batch 는 실행 1회로 기록한다.
+ * 통계 반영/비동기 저장 스케줄러 스레드에서 실행된 SQL 은 기록하지 않는다.
+ * */
+public class SqlStatementCounter implements QueryExecutionListener {
+    private static final String SCHEDULER_THREAD_PREFIX = "scheduling-";
+
+    private volatile Recording recording;
+
+    /*
+     * 현재 스레드에서 실행된 SQL 만 기록한다. (서비스 호출 테스트)
+     * */
+    public RecordedStatements count(Runnable action) {
+        Thread caller = Thread.currentThread();
+        return record(thread -> thread == caller, action);
+    }
+
+    /*
+     * 스케줄러 스레드를 제외한 모든 스레드에서 실행된 SQL 을 기록한다. (HTTP 요청 테스트)
+     * */
+    public RecordedStatements countRequests(Runnable action) {
+        return record(thread -> !thread.getName().startsWith(SCHEDULER_THREAD_PREFIX), action);
+    }
+
+    private synchronized RecordedStatements record(Predicate<Thread> target, Runnable action) {
+        Recording current = new Recording(target);
+        recording = current;
+        try {
+            action.run();
+        } finally {
+            recording = null;
+        }
+        return new RecordedStatements(List.copyOf(current.statements));
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Recording current = recording;
+        if (current == null || !current.target.test(Thread.currentThread())) {
+            return;
+        }
+
+        String sql = queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .collect(Collectors.joining("; "));
+        current.statements.add(execInfo.isBatch() ? "[batch " + execInfo.getBatchSize() + "] " + sql : sql);
+    }
+
+    public record RecordedStatements(List<String> statements) {
+        public int count() {
+            return statements.size();
+        }
+
+        @Override
+        public String toString() {
+            return statements.size() + " statements\n" + String.join("\n", statements);
+        }
+    }
+
+    private static final class Recording {
+        private final Predicate<Thread> target;
+        private final Queue<String> statements = new ConcurrentLinkedQueue<>();
+
+        private Recording(Predicate<Thread> target) {
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package net.gentledot.survey.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/*
+ * DataSource 를 datasource-proxy 로 감싸 SqlStatementCounter 가 실행된 SQL 을 받도록 한다.
+ * */
+@TestConfiguration
+public class SqlStatementCountingConfiguration {
+
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor(SqlStatementCounter sqlStatementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(sqlStatementCounter)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
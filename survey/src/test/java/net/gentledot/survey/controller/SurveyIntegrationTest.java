@@ -12,22 +12,28 @@ import net.gentledot.survey.application.service.in.model.request.SurveyQuestionO
 import net.gentledot.survey.application.service.in.model.request.SurveyQuestionRequest;
 import net.gentledot.survey.application.service.in.model.request.SurveyUpdateRequest;
 import net.gentledot.survey.config.IntegrationTestDatabaseClearing;
+import net.gentledot.survey.config.SqlStatementCounter;
+import net.gentledot.survey.config.SqlStatementCountingConfiguration;
 import net.gentledot.survey.domain.enums.ItemRequired;
 import net.gentledot.survey.domain.enums.SurveyItemType;
 import net.gentledot.survey.domain.enums.UpdateType;
+import net.gentledot.survey.domain.surveybase.Survey;
 import net.gentledot.survey.domain.surveybase.SurveyQuestion;
 import net.gentledot.survey.infra.repository.jpa.SurveyJpaQuestionRepository;
+import net.gentledot.survey.infra.repository.jpa.SurveyJpaRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,9 +46,12 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 
 @Slf4j
+@AutoConfigureObservability
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
-@Import(IntegrationTestDatabaseClearing.class)
+@Import({IntegrationTestDatabaseClearing.class, SqlStatementCountingConfiguration.class})
 class SurveyIntegrationTest {
+    // 응답 insert, 제출 항목 batch insert, sequence 할당(응답/제출 항목 각 1회)
+    private static final int SUBMIT_STATEMENT_BUDGET = 4;
 
     @LocalServerPort
     private int port;
@@ -56,6 +65,12 @@ class SurveyIntegrationTest {
     @Autowired
     SurveyJpaQuestionRepository surveyQuestionRepository;
 
+    @Autowired
+    SurveyJpaRepository surveyJpaRepository;
+
+    @Autowired
+    SqlStatementCounter sqlStatementCounter;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
@@ -181,15 +196,99 @@ class SurveyIntegrationTest {
 
     }
 
+    @DisplayName("PATCH 는 요청한 버전에서만 반영되고, 이전 버전으로 요청하면 409 를 반환한다. 설명은 생략하면 유지되고 null 로 요청하면 지워진다.")
+    @Test
+    void patchSurveyWithVersion() {
+        ExtractableResponse<Response> extract = SurveyIntegrations.surveyCreate(toJson(testCreateRequest()))
+                .body("data.version", equalTo(0))
+                .extract();
+        String surveyId = extract.path("data.surveyId");
+        Integer questionId = extract.path("data.questions[0].questionId");
+
+        SurveyIntegrations.surveyPatch(surveyId, """
+                        {"version": 0, "name": "Patched Survey"}
+                        """)
+                .statusCode(HttpStatus.OK.value())
+                .body("data.surveyId", equalTo(surveyId))
+                .body("data.version", equalTo(1));
+        SurveyIntegrations.surveyQuestionPatch(surveyId, questionId, """
+                        {"version": 1, "question": "Patched Question", "required": "OPTIONAL"}
+                        """)
+                .statusCode(HttpStatus.OK.value())
+                .body("data.version", equalTo(2));
+
+        SurveyIntegrations.surveyPatch(surveyId, """
+                        {"version": 1, "description": "stale"}
+                        """)
+                .statusCode(HttpStatus.CONFLICT.value())
+                .body("success", equalTo(false))
+                .body("error.errorCode", equalTo("4001"));
+
+        SurveyQuestion patched = surveyQuestionRepository.findById(Long.valueOf(questionId)).get();
+        Assertions.assertThat(patched.getItemName()).isEqualTo("Patched Question");
+        Assertions.assertThat(patched.getRequired()).isEqualTo(ItemRequired.OPTIONAL);
+        Assertions.assertThat(surveyJpaRepository.findById(surveyId).get().getDescription()).isNotNull();
+
+        SurveyIntegrations.surveyPatch(surveyId, """
+                        {"version": 2, "description": null}
+                        """)
+                .statusCode(HttpStatus.OK.value())
+                .body("data.version", equalTo(3));
+        Survey cleared = surveyJpaRepository.findById(surveyId).get();
+        Assertions.assertThat(cleared.getName()).isEqualTo("Patched Survey");
+        Assertions.assertThat(cleared.getDescription()).isNull();
+    }
+
+    @DisplayName("서베이 목록은 최근 생성 순으로 커서 페이지 조회되고, 페이지마다 한 번의 쿼리로 질문/응답 수를 함께 반환한다.")
+    @Test
+    void getSurveyCatalogWithCursor() {
+        // 목록은 모든 서베이를 대상으로 하므로 다른 테스트 클래스가 남긴 서베이를 먼저 정리
+        integrationTestDatabaseClearing.clearAllH2Database();
+        String firstSurveyId = SurveyIntegrations.surveyCreate(toJson(testCreateRequest())).extract().path("data.surveyId");
+        ExtractableResponse<Response> answeredSurvey = SurveyIntegrations.surveyCreate(toJson(testCreateRequest())).extract();
+        String answeredSurveyId = answeredSurvey.path("data.surveyId");
+        String lastSurveyId = SurveyIntegrations.surveyCreate(toJson(testCreateRequest())).extract().path("data.surveyId");
+        SurveyIntegrations.submitSurveyAnswer(answeredSurveyId, testSurveyAnswerRequestBody(answeredSurvey));
+
+        String[] nextCursor = new String[1];
+        SqlStatementCounter.RecordedStatements firstPage = sqlStatementCounter.countRequests(() ->
+                nextCursor[0] = SurveyIntegrations.getSurveyCatalog(null, 2)
+                        .statusCode(HttpStatus.OK.value())
+                        .body("data.surveys", hasSize(2))
+                        .body("data.surveys[0].surveyId", equalTo(lastSurveyId))
+                        .body("data.surveys[1].surveyId", equalTo(answeredSurveyId))
+                        .body("data.surveys[1].name", equalTo("나만의 설문"))
+                        .body("data.surveys[1].questionCount", equalTo(4))
+                        .body("data.surveys[1].answerCount", equalTo(1))
+                        .body("data.surveys[1].version", equalTo(0))
+                        .body("data.surveys[1].updatedAt", notNullValue())
+                        .body("data.nextCursor", notNullValue())
+                        .extract().path("data.nextCursor"));
+        SqlStatementCounter.RecordedStatements lastPage = sqlStatementCounter.countRequests(() ->
+                SurveyIntegrations.getSurveyCatalog(nextCursor[0], 2)
+                        .statusCode(HttpStatus.OK.value())
+                        .body("data.surveys", hasSize(1))
+                        .body("data.surveys[0].surveyId", equalTo(firstSurveyId))
+                        .body("data.surveys[0].answerCount", equalTo(0))
+                        .body("data.nextCursor", nullValue()));
+
+        Assertions.assertThat(firstPage.count()).as("%s", firstPage).isEqualTo(1);
+        Assertions.assertThat(lastPage.count()).as("%s", lastPage).isEqualTo(1);
+
+        SurveyIntegrations.getSurveyCatalog("invalid-cursor", null)
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("error.errorCode", equalTo("2003"));
+    }
+
     @Test
     void submitSurvey() {
         SurveyCreateRequest createRequest = testCreateRequest();
         String createRequestBody = toJson(createRequest);
-        String surveyId = SurveyIntegrations.surveyCreate(createRequestBody)
-                .extract()
-                .path("data.surveyId");
+        ExtractableResponse<Response> createResponse = SurveyIntegrations.surveyCreate(createRequestBody)
+                .extract();
+        String surveyId = createResponse.path("data.surveyId");
 
-        String submitRequestBody = testSurveyAnswerRequestBody();
+        String submitRequestBody = testSurveyAnswerRequestBody(createResponse);
 
         ValidatableResponse validatableResponse = SurveyIntegrations.submitSurveyAnswer(surveyId, submitRequestBody);
         validatableResponse
@@ -199,38 +298,39 @@ class SurveyIntegrationTest {
                 .body("error", nullValue());
     }
 
-    private static String testSurveyAnswerRequestBody() {
+    private static String testSurveyAnswerRequestBody(ExtractableResponse<Response> createResponse) {
+        List<Integer> questionIds = createResponse.path("data.questions.questionId");
         return """
                 [
                     {
-                        "questionId": 1,
+                        "questionId": %d,
                         "answer": ["홍길동"]
                     },
                     {
-                        "questionId": 2,
+                        "questionId": %d,
                         "answer": ["좋아요"]
                     },
                     {
-                        "questionId": 3,
+                        "questionId": %d,
                         "answer": ["23:00", "24:00"]
                     },
                     {
-                        "questionId": 4,
+                        "questionId": %d,
                         "answer": ["아주 좋았습니다."]
                     }
                 ]
-                """;
+                """.formatted(questionIds.get(0), questionIds.get(1), questionIds.get(2), questionIds.get(3));
     }
 
     @Test
     void getAllSurveyAnswer() {
         SurveyCreateRequest createRequest = testCreateRequest();
         String createRequestBody = toJson(createRequest);
-        String surveyId = SurveyIntegrations.surveyCreate(createRequestBody)
-                .extract()
-                .path("data.surveyId");
+        ExtractableResponse<Response> createResponse = SurveyIntegrations.surveyCreate(createRequestBody)
+                .extract();
+        String surveyId = createResponse.path("data.surveyId");
 
-        String submitRequestBody = testSurveyAnswerRequestBody();
+        String submitRequestBody = testSurveyAnswerRequestBody(createResponse);
         SurveyIntegrations.submitSurveyAnswer(surveyId, submitRequestBody);
 
         SurveyIntegrations.getAllSurveyAnswers(surveyId, null, null)
@@ -251,6 +351,126 @@ class SurveyIntegrationTest {
                 .body("error", nullValue());
     }
 
+    @DisplayName("응답 제출 요청은 정해진 쿼리 수 이내로, 응답 목록 조회 요청은 응답 수와 관계없이 같은 쿼리 수로 처리된다.")
+    @Test
+    void surveyAnswerRequestsStayWithinStatementBudget() {
+        SurveyCreateRequest createRequest = testCreateRequest();
+        ExtractableResponse<Response> createResponse = SurveyIntegrations.surveyCreate(toJson(createRequest))
+                .extract();
+        String surveyId = createResponse.path("data.surveyId");
+        String submitRequestBody = testSurveyAnswerRequestBody(createResponse);
+        SurveyIntegrations.submitSurveyAnswer(surveyId, submitRequestBody);
+
+        SqlStatementCounter.RecordedStatements submit = sqlStatementCounter.countRequests(() ->
+                SurveyIntegrations.submitSurveyAnswer(surveyId, submitRequestBody)
+                        .statusCode(HttpStatus.OK.value()));
+        SqlStatementCounter.RecordedStatements listFewAnswers = sqlStatementCounter.countRequests(() ->
+                SurveyIntegrations.getAllSurveyAnswers(surveyId, null, null)
+                        .statusCode(HttpStatus.OK.value())
+                        .body("data.answerList", hasSize(2)));
+
+        for (int i = 0; i < 8; i++) {
+            SurveyIntegrations.submitSurveyAnswer(surveyId, submitRequestBody);
+        }
+        SqlStatementCounter.RecordedStatements listManyAnswers = sqlStatementCounter.countRequests(() ->
+                SurveyIntegrations.getAllSurveyAnswers(surveyId, null, null)
+                        .statusCode(HttpStatus.OK.value())
+                        .body("data.answerList", hasSize(10)));
+
+        Assertions.assertThat(submit.count()).as("%s", submit).isLessThanOrEqualTo(SUBMIT_STATEMENT_BUDGET);
+        Assertions.assertThat(listManyAnswers.count()).as("%s", listManyAnswers).isEqualTo(listFewAnswers.count());
+    }
+
+    @Test
+    void submitSurveyAnswersInBulk() {
+        SurveyCreateRequest createRequest = testCreateRequest();
+        String createRequestBody = toJson(createRequest);
+        ExtractableResponse<Response> createResponse = SurveyIntegrations.surveyCreate(createRequestBody)
+                .extract();
+        String surveyId = createResponse.path("data.surveyId");
+
+        String bulkRequestBody = "[" + testSurveyAnswerRequestBody(createResponse) + ", [{\"questionId\": -1, \"answer\": [\"홍길동\"]}]]";
+
+        SurveyIntegrations.submitSurveyAnswers(surveyId, bulkRequestBody)
+                .statusCode(HttpStatus.OK.value())
+                .body("success", equalTo(true))
+                .body("data.successCount", equalTo(1))
+                .body("data.failureCount", equalTo(1))
+                .body("data.results[0].success", equalTo(true))
+                .body("data.results[0].answerId", notNullValue())
+                .body("data.results[1].success", equalTo(false))
+                .body("data.results[1].error.errorCode", equalTo("3001"))
+                .body("error", nullValue());
+    }
+
+    @DisplayName("엔드포인트, 검증, repository, 요청당 Hibernate 통계 지표를 Prometheus 형식으로 노출한다.")
+    @Test
+    void exposePrometheusMetrics() {
+        SurveyCreateRequest createRequest = testCreateRequest();
+        String createRequestBody = toJson(createRequest);
+        ExtractableResponse<Response> createResponse = SurveyIntegrations.surveyCreate(createRequestBody)
+                .extract();
+        String surveyId = createResponse.path("data.surveyId");
+
+        SurveyIntegrations.submitSurveyAnswer(surveyId, testSurveyAnswerRequestBody(createResponse))
+                .statusCode(HttpStatus.OK.value());
+        SurveyIntegrations.submitSurveyAnswer(surveyId, "[{\"questionId\": -1, \"answer\": [\"홍길동\"]}]")
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+
+        String metrics = SurveyIntegrations.prometheusMetrics()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .asString();
+
+        Assertions.assertThat(metrics)
+                .contains("http_server_requests_seconds_bucket")
+                .contains("uri=\"/v1/survey/{surveyId}/answer\"")
+                .contains("spring_data_repository_invocations_seconds_count")
+                .containsPattern("survey_validation_seconds_count\\{.*target=\"answer\".*}")
+                .containsPattern("survey_validation_seconds_count\\{.*target=\"request\".*}")
+                .containsPattern("survey_validation_failures_total\\{.*code=\"3001\".*target=\"answer\".*}")
+                .containsPattern("hibernate_request_statements_count\\{.*method=\"POST\".*uri=\"/v1/survey/\\{surveyId}/answer\".*}")
+                .contains("hibernate_request_entity_loads_count")
+                .contains("hibernate_request_collection_fetches_count")
+                // 멱등성 캐시와 서베이 정의 캐시 지표가 같은 태그 구성으로 함께 등록됨
+                .containsPattern("cache_gets_total\\{.*cache=\"surveyAnswerIdempotency\".*}")
+                .containsPattern("cache_gets_total\\{.*cache=\"surveyDefinition\".*}");
+    }
+
+    @Test
+    void exportSurveyAnswers() {
+        SurveyCreateRequest createRequest = testCreateRequest();
+        String createRequestBody = toJson(createRequest);
+        ExtractableResponse<Response> createResponse = SurveyIntegrations.surveyCreate(createRequestBody)
+                .extract();
+        String surveyId = createResponse.path("data.surveyId");
+
+        String submitRequestBody = testSurveyAnswerRequestBody(createResponse);
+        SurveyIntegrations.submitSurveyAnswer(surveyId, submitRequestBody);
+        SurveyIntegrations.submitSurveyAnswer(surveyId, submitRequestBody);
+
+        byte[] exported = SurveyIntegrations.exportSurveyAnswers(surveyId)
+                .statusCode(HttpStatus.OK.value())
+                .contentType("application/x-ndjson")
+                .extract()
+                .asByteArray();
+
+        List<String> lines = new String(exported, StandardCharsets.UTF_8).lines().toList();
+        Assertions.assertThat(lines).hasSize(2);
+        Assertions.assertThat(lines).allSatisfy(line -> {
+            Assertions.assertThat(line).contains("\"answerId\"");
+            Assertions.assertThat(line).contains("홍길동");
+        });
+    }
+
+    @Test
+    void exportSurveyAnswersWithUnknownSurvey() {
+        SurveyIntegrations.exportSurveyAnswers("unknown-survey")
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("success", equalTo(false))
+                .body("error.errorCode", equalTo("2001"));
+    }
+
     @DisplayName("설문 생성 - 설문 답변 제출 - 설문 수정 - 설문 답변 (2) - 설문 전체 조회를 쭉보자.")
     @Test
     void fullSurveyLifecycleTest() {
@@ -23,6 +23,23 @@ public class SurveyIntegrations {
                 .log().all();
     }
 
+    public static ValidatableResponse getSurveyCatalog(String cursor, Integer size) {
+        RequestSpecification when = RestAssured.given()
+                .accept(ContentType.JSON)
+                .when();
+        if (StringUtils.isNotBlank(cursor)) {
+            when = when.param("cursor", cursor);
+        }
+        if (size != null) {
+            when = when.param("size", size);
+        }
+
+        return when
+                .get("/v1/survey")
+                .then()
+                .log().all();
+    }
+
     public static ValidatableResponse surveyUpdate(String requestBody) {
         return RestAssured.given()
                 .contentType(ContentType.JSON)
@@ -33,6 +50,26 @@ public class SurveyIntegrations {
                 .log().all();
     }
 
+    public static ValidatableResponse surveyPatch(String surveyId, String requestBody) {
+        return RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .patch("/v1/survey/{surveyId}", surveyId)
+                .then()
+                .log().all();
+    }
+
+    public static ValidatableResponse surveyQuestionPatch(String surveyId, long questionId, String requestBody) {
+        return RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .patch("/v1/survey/{surveyId}/question/{questionId}", surveyId, questionId)
+                .then()
+                .log().all();
+    }
+
     public static ValidatableResponse submitSurveyAnswer(String surveyId, String requestBody) {
         return RestAssured.given()
                 .contentType(ContentType.JSON)
@@ -43,6 +80,23 @@ public class SurveyIntegrations {
                 .log().all();
     }
 
+    public static ValidatableResponse prometheusMetrics() {
+        return RestAssured.given()
+                .when()
+                .get("/actuator/prometheus")
+                .then();
+    }
+
+    public static ValidatableResponse submitSurveyAnswers(String surveyId, String requestBody) {
+        return RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/v1/survey/{surveyId}/answer/bulk", surveyId)
+                .then()
+                .log().all();
+    }
+
     public static ValidatableResponse getAllSurveyAnswers(String surveyId, String queryForName, String queryForAnswer) {
         RequestSpecification when = RestAssured.given()
                 .accept(ContentType.JSON)
@@ -60,5 +114,11 @@ public class SurveyIntegrations {
                 .log().all();
     }
 
-
+    public static ValidatableResponse exportSurveyAnswers(String surveyId) {
+        return RestAssured.given()
+                .when()
+                .get("/v1/survey/{surveyId}/answer/export", surveyId)
+                .then()
+                .log().all();
+    }
 }
@@ -0,0 +1,294 @@
+package net.gentledot.survey.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.gentledot.survey.application.service.SurveyAnswerAsyncSubmissionService;
+import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.in.model.response.SurveyAnswerReceipt;
+import net.gentledot.survey.application.service.out.SurveyRepository;
+import net.gentledot.survey.application.service.submission.SurveyAnswerJournal;
+import net.gentledot.survey.domain.enums.ItemRequired;
+import net.gentledot.survey.domain.enums.SurveyItemType;
+import net.gentledot.survey.domain.exception.SurveySubmissionOverloadedException;
+import net.gentledot.survey.domain.exception.SurveySubmitValidationException;
+import net.gentledot.survey.domain.surveyanswer.variables.TextInput;
+import net.gentledot.survey.domain.surveybase.Survey;
+import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.definition.SurveyQuestionDefinition;
+import net.gentledot.survey.domain.surveybase.dto.SurveyQuestionOptionDto;
+import net.gentledot.survey.infra.repository.jpa.SurveyAnswerIdempotencyJpaRepository;
+import net.gentledot.survey.infra.repository.jpa.SurveyAnswerJpaRepository;
+import net.gentledot.survey.infra.repository.jpa.SurveyJpaRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 스케줄러가 검증 도중 대기열을 비우지 않도록 반영 주기를 길게 설정하고, 테스트에서 직접 반영
+@SpringBootTest(properties = {
+        "survey.submission.async.enabled=true",
+        "survey.submission.async.queue-capacity=3",
+        "survey.submission.async.batch-size=2",
+        "survey.submission.async.flush-interval-ms=3600000"
+})
+class SurveyAnswerAsyncSubmissionServiceProcessTest {
+
+    private static final Path JOURNAL_DIRECTORY = createJournalDirectory();
+
+    @Autowired
+    SurveyAnswerAsyncSubmissionService asyncSubmissionService;
+
+    @Autowired
+    SurveyJpaRepository surveyJpaRepository;
+
+    @Autowired
+    SurveyAnswerJpaRepository surveyAnswerJpaRepository;
+
+    @Autowired
+    SurveyAnswerIdempotencyJpaRepository idempotencyJpaRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    SurveyRepository surveyRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Survey survey;
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) {
+        registry.add("survey.submission.async.journal-path", () -> JOURNAL_DIRECTORY.resolve("survey-answer.journal").toString());
+    }
+
+    private static Path createJournalDirectory() {
+        try {
+            return Files.createTempDirectory("survey-answer-journal");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        survey = surveyJpaRepository.save(createSurvey());
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncSubmissionService.flushPendingAnswers();
+    }
+
+    private Survey createSurvey() {
+        List<SurveyQuestionOption> options = new ArrayList<>();
+        options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("Option 1")));
+        options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("Option 2")));
+        List<SurveyQuestion> questions = new ArrayList<>();
+        questions.add(SurveyQuestion.of("Question 1", "Description 1", SurveyItemType.SINGLE_SELECT, ItemRequired.REQUIRED, options));
+        questions.add(SurveyQuestion.of("Question 2", "Description 2", SurveyItemType.TEXT, ItemRequired.OPTIONAL, null));
+        return Survey.of("Survey 1", "Description 1", questions);
+    }
+
+    private List<SubmitSurveyAnswer> validAnswers(String text) {
+        return List.of(
+                new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of("Option 1")),
+                new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of(text)));
+    }
+
+    @DisplayName("접수된 응답은 즉시 저장되지 않고, 반영 시 batch 단위로 저장된다.")
+    @Test
+    void acceptSurveyAnswerAndFlushInBatches() {
+        SurveyAnswerReceipt receipt = asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer 1"));
+        asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer 2"));
+        asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer 3"));
+
+        Assertions.assertThat(receipt.receiptId()).isNotBlank();
+        Assertions.assertThat(receipt.surveyId()).isEqualTo(survey.getId());
+        Assertions.assertThat(surveyAnswerJpaRepository.findAllBySurveyId(survey.getId())).isEmpty();
+        Assertions.assertThat(asyncSubmissionService.getPendingCount()).isEqualTo(3);
+
+        asyncSubmissionService.flushPendingAnswers();
+
+        Assertions.assertThat(surveyAnswerJpaRepository.findAllBySurveyId(survey.getId())).hasSize(3);
+        Assertions.assertThat(asyncSubmissionService.getPendingCount()).isZero();
+    }
+
+    @DisplayName("반영 전후로 같은 Idempotency-Key 로 다시 접수하면 처음 접수 정보를 반환하고 한 번만 저장된다.")
+    @Test
+    void acceptSurveyAnswerWithSameIdempotencyKeyOnlyOnce() {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        SurveyAnswerReceipt first = asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer 1"), idempotencyKey);
+        SurveyAnswerReceipt retriedBeforeFlush = asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer 1"), idempotencyKey);
+        Assertions.assertThat(retriedBeforeFlush.receiptId()).isEqualTo(first.receiptId());
+        Assertions.assertThat(asyncSubmissionService.getPendingCount()).isEqualTo(1);
+
+        asyncSubmissionService.flushPendingAnswers();
+        SurveyAnswerReceipt retriedAfterFlush = asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer 1"), idempotencyKey);
+
+        Assertions.assertThat(retriedAfterFlush.receiptId()).isEqualTo(first.receiptId());
+        Assertions.assertThat(asyncSubmissionService.getPendingCount()).isZero();
+        Assertions.assertThat(surveyAnswerJpaRepository.findAllBySurveyId(survey.getId())).hasSize(1);
+        Assertions.assertThat(idempotencyJpaRepository.findBySurveyIdAndIdempotencyKey(survey.getId(), idempotencyKey))
+                .hasValueSatisfying(idempotency -> Assertions.assertThat(idempotency.getReceiptId()).isEqualTo(first.receiptId()));
+    }
+
+    @Test
+    void failTest_acceptSurveyAnswerWithInvalidOption() {
+        List<SubmitSurveyAnswer> answers = List.of(
+                new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of("Unknown")),
+                new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of("Answer")));
+
+        Assertions.assertThatThrownBy(() -> asyncSubmissionService.acceptSurveyAnswer(survey.getId(), answers))
+                .isInstanceOf(SurveySubmitValidationException.class);
+        Assertions.assertThat(asyncSubmissionService.getPendingCount()).isZero();
+    }
+
+    @Test
+    void failTest_acceptSurveyAnswerWhenQueueIsFull() {
+        for (int i = 0; i < 3; i++) {
+            asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer " + i));
+        }
+
+        Assertions.assertThatThrownBy(() -> asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Overflow")))
+                .isInstanceOf(SurveySubmissionOverloadedException.class)
+                .satisfies(exception -> Assertions.assertThat(((SurveySubmissionOverloadedException) exception).getServiceError().getCode())
+                        .isEqualTo("3006"));
+    }
+
+    @Test
+    void failTest_acceptSurveyAnswerWithTooLongText() {
+        Assertions.assertThatThrownBy(() -> asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("a".repeat(TextInput.MAXIMUM_TEXT_LENGTH + 1))))
+                .isInstanceOf(SurveySubmitValidationException.class)
+                .satisfies(exception -> Assertions.assertThat(((SurveySubmitValidationException) exception).getServiceError().getCode())
+                        .isEqualTo("3008"));
+        Assertions.assertThat(asyncSubmissionService.getPendingCount()).isZero();
+    }
+
+    @DisplayName("항상 반영에 실패하는 응답은 다른 응답의 반영을 막지 않고, 반복 실패하면 대기열에서 제외된다.")
+    @Test
+    void deadLetterSubmissionThatAlwaysFails() throws IOException {
+        // 존재하지 않는 질문 revision 을 참조하는 정의로 접수되어 저장 시 항상 FK 제약에 걸리는 응답
+        Survey brokenSurvey = surveyJpaRepository.save(createSurvey());
+        List<SurveyQuestionDefinition> brokenQuestions = SurveyDefinition.from(brokenSurvey).getQuestions().stream()
+                .map(question -> new SurveyQuestionDefinition(question.getId(), Long.MAX_VALUE, question.getItemName(), question.getItemDescription(),
+                        question.getItemType(), question.getRequired(), question.getOptions()))
+                .toList();
+        surveyRepository.publishDefinition(new SurveyDefinition(brokenSurvey.getId(), Long.MAX_VALUE, brokenQuestions));
+        double failedBefore = meterRegistry.counter(SurveyAnswerAsyncSubmissionService.FAILED_SUBMISSION_METRIC).count();
+
+        asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer 1"));
+        SurveyAnswerReceipt brokenReceipt = asyncSubmissionService.acceptSurveyAnswer(brokenSurvey.getId(), List.of(
+                new SubmitSurveyAnswer(brokenSurvey.getQuestions().get(0).getId(), List.of("Option 1")),
+                new SubmitSurveyAnswer(brokenSurvey.getQuestions().get(1).getId(), List.of("Broken"))));
+        asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer 2"));
+
+        asyncSubmissionService.flushPendingAnswers();
+        asyncSubmissionService.flushPendingAnswers();
+        asyncSubmissionService.acceptSurveyAnswer(survey.getId(), validAnswers("Answer 3"));
+        asyncSubmissionService.flushPendingAnswers();
+
+        Assertions.assertThat(surveyAnswerJpaRepository.findAllBySurveyId(survey.getId())).hasSize(3);
+        Assertions.assertThat(surveyAnswerJpaRepository.findAllBySurveyId(brokenSurvey.getId())).isEmpty();
+        Assertions.assertThat(asyncSubmissionService.getPendingCount()).isZero();
+        Assertions.assertThat(meterRegistry.counter(SurveyAnswerAsyncSubmissionService.FAILED_SUBMISSION_METRIC).count())
+                .isEqualTo(failedBefore + 1);
+        // 모든 접수가 반영/실패로 기록되면 저널을 비우고, 실패한 응답은 .failed 파일로 옮김
+        Assertions.assertThat(Files.readAllLines(JOURNAL_DIRECTORY.resolve("survey-answer.journal"))).isEmpty();
+        Assertions.assertThat(Files.readAllLines(JOURNAL_DIRECTORY.resolve("survey-answer.journal.failed")))
+                .anySatisfy(line -> Assertions.assertThat(line).contains(SurveyAnswerJournal.SUBMITTED, brokenReceipt.receiptId()));
+    }
+
+    @DisplayName("동시에 기록된 접수는 모두 복구되고, 접수된 응답이 모두 반영되어야 저널을 비운다.")
+    @Test
+    void journalGroupCommitsConcurrentAppendsAndCompactsWhenSettled() throws Exception {
+        Path journalPath = Files.createTempDirectory("survey-answer-journal-group").resolve("group.journal");
+        int threadCount = 8;
+        int appendsPerThread = 50;
+
+        try (SurveyAnswerJournal journal = new SurveyAnswerJournal(journalPath, objectMapper)) {
+            journal.open();
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            try {
+                List<Future<?>> appenders = new ArrayList<>();
+                for (int t = 0; t < threadCount; t++) {
+                    int thread = t;
+                    appenders.add(executor.submit(() -> {
+                        for (int i = 0; i < appendsPerThread; i++) {
+                            journal.appendSubmitted("receipt-" + thread + "-" + i, survey.getId(), validAnswers("Answer"), null);
+                        }
+                    }));
+                }
+                for (Future<?> appender : appenders) {
+                    appender.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        List<String> receiptIds;
+        try (SurveyAnswerJournal journal = new SurveyAnswerJournal(journalPath, objectMapper)) {
+            receiptIds = journal.open().stream().map(SurveyAnswerJournal.Entry::receiptId).toList();
+            Assertions.assertThat(receiptIds).hasSize(threadCount * appendsPerThread).doesNotHaveDuplicates();
+
+            // 반영되지 않은 접수가 남아 있으면 비우지 않음
+            journal.appendCompleted(receiptIds.subList(1, receiptIds.size()));
+            journal.compactIfSettled();
+            Assertions.assertThat(Files.size(journalPath)).isPositive();
+
+            journal.appendCompleted(receiptIds.subList(0, 1));
+            journal.compactIfSettled();
+            Assertions.assertThat(Files.size(journalPath)).isZero();
+        }
+    }
+
+    @DisplayName("저널은 반영이 완료되지 않은 응답만 복구한다.")
+    @Test
+    void journalRecoversOnlyIncompleteSubmissions() throws IOException {
+        Path journalPath = Files.createTempDirectory("survey-answer-journal-recovery").resolve("recovery.journal");
+
+        try (SurveyAnswerJournal journal = new SurveyAnswerJournal(journalPath, objectMapper)) {
+            journal.open();
+            journal.appendSubmitted("receipt-1", survey.getId(), validAnswers("Answer 1"), null);
+            journal.appendSubmitted("receipt-2", survey.getId(), validAnswers("Answer 2"), null);
+            journal.appendSubmitted("receipt-3", survey.getId(), validAnswers("Answer 3"), null);
+            journal.appendCompleted(List.of("receipt-1"));
+            journal.appendFailed(List.of("receipt-3"));
+        }
+        // 종료 도중 잘린 기록
+        Files.writeString(journalPath, "{\"type\":\"SUBMI", StandardOpenOption.APPEND);
+
+        try (SurveyAnswerJournal journal = new SurveyAnswerJournal(journalPath, objectMapper)) {
+            List<SurveyAnswerJournal.Entry> pending = journal.open();
+
+            Assertions.assertThat(pending).extracting(SurveyAnswerJournal.Entry::receiptId).containsExactly("receipt-2");
+            Assertions.assertThat(pending.getFirst().answers()).hasSize(2);
+        }
+        Assertions.assertThat(Files.readAllLines(journalPath)).hasSize(1);
+        // 반영에 실패한 응답은 복구하지 않고 .failed 파일로 옮김
+        Assertions.assertThat(Files.readAllLines(journalPath.resolveSibling("recovery.journal.failed")))
+                .singleElement().satisfies(line -> Assertions.assertThat(line).contains("receipt-3"));
+    }
+}
@@ -1,44 +1,100 @@
 package net.gentledot.survey.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import net.gentledot.survey.application.service.SurveyAnswerService;
+import net.gentledot.survey.application.service.SurveyService;
+import net.gentledot.survey.application.service.SurveyStatisticsService;
+import net.gentledot.survey.application.service.idempotency.IdempotentSubmission;
+import net.gentledot.survey.application.service.idempotency.SurveyAnswerIdempotencyService;
 import net.gentledot.survey.application.service.in.model.request.SearchSurveyAnswerRequest;
 import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.in.model.request.SurveyQuestionOptionRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyQuestionRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyUpdateRequest;
+import net.gentledot.survey.application.service.in.model.response.BulkSubmitSurveyAnswerResponse;
+import net.gentledot.survey.application.service.in.model.response.BulkSubmitSurveyAnswerResult;
 import net.gentledot.survey.application.service.in.model.response.SearchSurveyAnswerResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyAnswerItem;
+import net.gentledot.survey.application.service.in.model.response.SurveyAnswerValue;
+import net.gentledot.survey.application.service.out.SurveyAnswerIdempotencyRepository;
+import net.gentledot.survey.config.SqlStatementCounter;
+import net.gentledot.survey.config.SqlStatementCountingConfiguration;
+import net.gentledot.survey.domain.enums.AnswerType;
 import net.gentledot.survey.domain.enums.ItemRequired;
 import net.gentledot.survey.domain.enums.SurveyItemType;
+import net.gentledot.survey.domain.enums.UpdateType;
+import net.gentledot.survey.domain.exception.ServiceError;
 import net.gentledot.survey.domain.exception.SurveyNotFoundException;
 import net.gentledot.survey.domain.exception.SurveySubmitValidationException;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswer;
+import net.gentledot.survey.domain.surveyanswer.SurveyAnswerSubmission;
+import net.gentledot.survey.domain.surveyanswer.dto.SubmitSurveyAnswerDto;
 import net.gentledot.survey.domain.surveybase.Survey;
 import net.gentledot.survey.domain.surveybase.SurveyQuestion;
 import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.definition.SurveyQuestionDefinition;
 import net.gentledot.survey.domain.surveybase.dto.SurveyQuestionOptionDto;
 import net.gentledot.survey.infra.repository.jpa.SurveyAnswerJpaRepository;
 import net.gentledot.survey.infra.repository.jpa.SurveyJpaRepository;
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static net.gentledot.survey.application.service.util.SurveyValidator.validateSurveyAnswers;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
+@Import(SqlStatementCountingConfiguration.class)
 class SurveyAnswerServiceProcessTest {
 
     @Autowired
     SurveyAnswerService surveyAnswerService;
 
+    @Autowired
+    SurveyService surveyService;
+
+    @Autowired
+    SurveyStatisticsService surveyStatisticsService;
+
     @Autowired
     SurveyJpaRepository surveyJpaRepository;
 
     @Autowired
     SurveyAnswerJpaRepository surveyAnswerJpaRepository;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    SurveyAnswerIdempotencyRepository idempotencyRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    SqlStatementCounter sqlStatementCounter;
+
+    // 응답 insert, 제출 항목 batch insert, sequence 할당(응답/제출 항목 각 1회)
+    private static final int SUBMIT_STATEMENT_BUDGET = 4;
+
     private Survey survey;
 
     @BeforeEach
@@ -122,6 +178,22 @@ class SurveyAnswerServiceProcessTest {
         });
     }
 
+    @DisplayName("다중 선택 항목은 정의된 옵션만 응답할 수 있으며, 선택 항목은 옵션 순서 비트로 저장되어 옵션 순서대로 복원된다.")
+    @Test
+    void validateMultiSelectAnswersWithSurveyDefinition() {
+        SurveyQuestionDefinition multiSelect = new SurveyQuestionDefinition(1L, 10L, "Question", null, SurveyItemType.MULTI_SELECT, ItemRequired.REQUIRED, List.of("A", "B", "C"));
+        SurveyDefinition definition = new SurveyDefinition("survey-id", 0L, List.of(multiSelect));
+
+        validateSurveyAnswers(definition, List.of(new SubmitSurveyAnswer(1L, List.of("C", "A"))));
+        assertThrows(SurveySubmitValidationException.class,
+                () -> validateSurveyAnswers(definition, List.of(new SubmitSurveyAnswer(1L, List.of("A", "D")))));
+
+        SurveyAnswer surveyAnswer = SurveyAnswer.of(null, definition, List.of(SubmitSurveyAnswerDto.from(new SubmitSurveyAnswer(1L, List.of("C", "A")))));
+        SurveyAnswerSubmission submission = surveyAnswer.getAnswers().getFirst();
+        Assertions.assertThat(submission.getQuestionRevisionId()).isEqualTo(10L);
+        Assertions.assertThat(submission.getSurveyQuestionAnswerSnapshot().getAnswer(AnswerType.SELECTION, multiSelect.getOptions())).isEqualTo("A, C");
+    }
+
     @Test
     void getSurveyAnswersWithValidRequest() {
         List<SubmitSurveyAnswer> answers = new ArrayList<>();
@@ -166,4 +238,398 @@ class SurveyAnswerServiceProcessTest {
         Assertions.assertThat(response.answerList()).hasSize(1);
     }
 
-}
\ No newline at end of file
+    @Test
+    void getSurveyAnswersWithCursorPagination() {
+        for (int i = 0; i < 3; i++) {
+            List<SubmitSurveyAnswer> answers = new ArrayList<>();
+            answers.add(new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of("Option 1")));
+            answers.add(new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of("Answer " + i)));
+            surveyAnswerService.submitSurveyAnswer(survey.getId(), answers);
+        }
+
+        SearchSurveyAnswerResponse firstPage = surveyAnswerService.getSurveyAnswers(SearchSurveyAnswerRequest.builder()
+                .surveyId(survey.getId())
+                .size(2)
+                .build());
+
+        Assertions.assertThat(firstPage.answerList()).hasSize(2);
+        Assertions.assertThat(firstPage.nextCursor()).isEqualTo(firstPage.answerList().get(1).getAnswerId());
+
+        SearchSurveyAnswerResponse lastPage = surveyAnswerService.getSurveyAnswers(SearchSurveyAnswerRequest.builder()
+                .surveyId(survey.getId())
+                .cursor(firstPage.nextCursor())
+                .size(2)
+                .build());
+
+        Assertions.assertThat(lastPage.answerList()).hasSize(1);
+        Assertions.assertThat(lastPage.answerList().getFirst().getAnswerId()).isGreaterThan(firstPage.nextCursor());
+        Assertions.assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void getSurveyAnswersFilteredByAnswerValueInDatabase() {
+        List<SubmitSurveyAnswer> matchingAnswers = new ArrayList<>();
+        matchingAnswers.add(new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of("Option 1")));
+        matchingAnswers.add(new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of("100% 만족")));
+        surveyAnswerService.submitSurveyAnswer(survey.getId(), matchingAnswers);
+
+        List<SubmitSurveyAnswer> otherAnswers = new ArrayList<>();
+        otherAnswers.add(new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of("Option 2")));
+        otherAnswers.add(new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of("1000 불만족")));
+        surveyAnswerService.submitSurveyAnswer(survey.getId(), otherAnswers);
+
+        SearchSurveyAnswerResponse byText = surveyAnswerService.getSurveyAnswers(SearchSurveyAnswerRequest.builder()
+                .surveyId(survey.getId())
+                .questionName("question 2")
+                .answerValue("100%")
+                .build());
+
+        Assertions.assertThat(byText.answerList()).hasSize(1);
+        Assertions.assertThat(byText.answerList().getFirst().getAnswers())
+                .extracting(SurveyAnswerItem::answerValue)
+                .containsExactly("100% 만족");
+
+        SearchSurveyAnswerResponse bySelection = surveyAnswerService.getSurveyAnswers(SearchSurveyAnswerRequest.builder()
+                .surveyId(survey.getId())
+                .answerValue("Option 2")
+                .build());
+
+        Assertions.assertThat(bySelection.answerList()).hasSize(1);
+
+        SearchSurveyAnswerResponse noMatch = surveyAnswerService.getSurveyAnswers(SearchSurveyAnswerRequest.builder()
+                .surveyId(survey.getId())
+                .questionName("Question 1")
+                .answerValue("만족")
+                .build());
+
+        Assertions.assertThat(noMatch.answerList()).isEmpty();
+    }
+
+    @DisplayName("옵션 수에 제한이 없어 64번째 이후 옵션도 선택/복원/응답 값 조건 조회가 가능하다.")
+    @Test
+    void selectOptionsBeyondSixtyThree() {
+        List<SurveyQuestionOption> options = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("Choice " + i)));
+        }
+        List<SurveyQuestion> questions = new ArrayList<>();
+        questions.add(SurveyQuestion.of("Question 1", "Description 1", SurveyItemType.MULTI_SELECT, ItemRequired.REQUIRED, options));
+        Survey manyOptionSurvey = surveyJpaRepository.save(Survey.of("Many options", "Description", questions));
+        Long questionId = manyOptionSurvey.getQuestions().getFirst().getId();
+
+        surveyAnswerService.submitSurveyAnswer(manyOptionSurvey.getId(),
+                List.of(new SubmitSurveyAnswer(questionId, List.of("Choice 3", "Choice 64", "Choice 199"))));
+        surveyAnswerService.submitSurveyAnswer(manyOptionSurvey.getId(),
+                List.of(new SubmitSurveyAnswer(questionId, List.of("Choice 150"))));
+
+        SearchSurveyAnswerResponse all = surveyAnswerService.getSurveyAnswers(SearchSurveyAnswerRequest.builder()
+                .surveyId(manyOptionSurvey.getId())
+                .build());
+        Assertions.assertThat(all.answerList())
+                .extracting(answer -> answer.getAnswers().getFirst().answerValue())
+                .containsExactly("Choice 3, Choice 64, Choice 199", "Choice 150");
+
+        SearchSurveyAnswerResponse byHighOption = surveyAnswerService.getSurveyAnswers(SearchSurveyAnswerRequest.builder()
+                .surveyId(manyOptionSurvey.getId())
+                .answerValue("Choice 199")
+                .build());
+        Assertions.assertThat(byHighOption.answerList()).hasSize(1);
+        Assertions.assertThat(byHighOption.answerList().getFirst().getAnswers().getFirst().answerValue())
+                .isEqualTo("Choice 3, Choice 64, Choice 199");
+    }
+
+    @Test
+    void submitSurveyAnswersInBulkWithPerItemResults() {
+        Long questionId1 = survey.getQuestions().get(0).getId();
+        Long questionId2 = survey.getQuestions().get(1).getId();
+        List<List<SubmitSurveyAnswer>> submissions = List.of(
+                List.of(new SubmitSurveyAnswer(questionId1, List.of("Option 1")), new SubmitSurveyAnswer(questionId2, List.of("Answer 1"))),
+                List.of(new SubmitSurveyAnswer(999L, List.of("Option 1")), new SubmitSurveyAnswer(questionId2, List.of("Answer 2"))),
+                List.of(new SubmitSurveyAnswer(questionId1, List.of("Option 2")), new SubmitSurveyAnswer(questionId2, List.of("Answer 3")))
+        );
+
+        BulkSubmitSurveyAnswerResponse response = surveyAnswerService.submitSurveyAnswers(survey.getId(), submissions);
+
+        Assertions.assertThat(response.successCount()).isEqualTo(2);
+        Assertions.assertThat(response.failureCount()).isEqualTo(1);
+        Assertions.assertThat(response.results())
+                .extracting(BulkSubmitSurveyAnswerResult::index, BulkSubmitSurveyAnswerResult::success)
+                .containsExactly(
+                        Assertions.tuple(0, true),
+                        Assertions.tuple(1, false),
+                        Assertions.tuple(2, true));
+        Assertions.assertThat(response.results().get(1).error().getErrorCode()).isEqualTo("3001");
+        Assertions.assertThat(response.results().get(0).answerId()).isNotNull();
+
+        SearchSurveyAnswerResponse savedAnswers = surveyAnswerService.getSurveyAnswers(SearchSurveyAnswerRequest.builder()
+                .surveyId(survey.getId())
+                .build());
+        Assertions.assertThat(savedAnswers.answerList())
+                .extracting(SurveyAnswerValue::getAnswerId)
+                .containsExactly(response.results().get(0).answerId(), response.results().get(2).answerId());
+    }
+
+    @DisplayName("일괄 제출 중 비어 있거나 null 인 항목은 해당 항목만 실패로 처리된다.")
+    @Test
+    void submitSurveyAnswersInBulkWithNullOrEmptyItems() {
+        Long questionId1 = survey.getQuestions().get(0).getId();
+        Long questionId2 = survey.getQuestions().get(1).getId();
+        List<List<SubmitSurveyAnswer>> submissions = new ArrayList<>();
+        submissions.add(null);
+        submissions.add(List.of(new SubmitSurveyAnswer(questionId1, List.of("Option 1")), new SubmitSurveyAnswer(questionId2, List.of("Answer 1"))));
+        submissions.add(Collections.emptyList());
+
+        BulkSubmitSurveyAnswerResponse response = surveyAnswerService.submitSurveyAnswers(survey.getId(), submissions);
+
+        Assertions.assertThat(response.successCount()).isEqualTo(1);
+        Assertions.assertThat(response.failureCount()).isEqualTo(2);
+        Assertions.assertThat(response.results())
+                .extracting(BulkSubmitSurveyAnswerResult::index, BulkSubmitSurveyAnswerResult::success)
+                .containsExactly(
+                        Assertions.tuple(0, false),
+                        Assertions.tuple(1, true),
+                        Assertions.tuple(2, false));
+        Assertions.assertThat(response.results().get(0).error().getErrorCode()).isEqualTo(ServiceError.BAD_REQUEST.getCode());
+    }
+
+    @DisplayName("응답 일괄 제출 시 insert 가 JDBC batch 로 묶여 응답 수만큼 쿼리가 늘어나지 않는다.")
+    @Test
+    void submitSurveyAnswersInBulkUsesBatchInserts() {
+        Long questionId1 = survey.getQuestions().get(0).getId();
+        Long questionId2 = survey.getQuestions().get(1).getId();
+        List<List<SubmitSurveyAnswer>> submissions = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            submissions.add(List.of(
+                    new SubmitSurveyAnswer(questionId1, List.of("Option 1")),
+                    new SubmitSurveyAnswer(questionId2, List.of("Answer " + i))));
+        }
+
+        long statementCount = countStatements(() -> surveyAnswerService.submitSurveyAnswers(survey.getId(), submissions));
+
+        // 50개 응답 * (응답 1건 + 항목 2건) = 150건의 insert 가 개별 실행되지 않아야 함
+        Assertions.assertThat(statementCount).isLessThan(20);
+    }
+
+    @DisplayName("서베이 정의가 캐시된 이후의 응답 제출은 질문 수와 관계없이 정해진 쿼리 수 이내로 실행된다.")
+    @Test
+    void submitSurveyAnswerStaysWithinStatementBudget() {
+        submitAnswers(1);
+
+        SqlStatementCounter.RecordedStatements recorded = sqlStatementCounter.count(() -> submitAnswers(1));
+
+        Assertions.assertThat(recorded.count()).as("%s", recorded).isLessThanOrEqualTo(SUBMIT_STATEMENT_BUDGET);
+    }
+
+    @Test
+    void failTest_submitSurveyAnswersInBulkWithEmptyRequest() {
+        Assertions.assertThatThrownBy(() -> surveyAnswerService.submitSurveyAnswers(survey.getId(), Collections.emptyList()))
+                .isInstanceOf(SurveySubmitValidationException.class)
+                .satisfies(exception -> Assertions.assertThat(((SurveySubmitValidationException) exception).getServiceError().getCode())
+                        .isEqualTo("3005"));
+    }
+
+    @DisplayName("응답 내보내기는 영속성 컨텍스트를 비우는 주기보다 제출 항목이 많은 응답도 질문 revision 옵션까지 복원한다.")
+    @Test
+    void exportSurveyAnswersAcrossPersistenceContextClear() {
+        int questionCount = 600;
+        List<SurveyQuestion> questions = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            List<SurveyQuestionOption> options = new ArrayList<>();
+            options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("Option 1")));
+            options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("Option 2")));
+            questions.add(SurveyQuestion.of("Question " + i, "Description " + i, SurveyItemType.SINGLE_SELECT, ItemRequired.REQUIRED, options));
+        }
+        Survey largeSurvey = surveyJpaRepository.save(Survey.of("Large Survey", "Description", questions));
+        for (String selected : List.of("Option 1", "Option 2")) {
+            List<SubmitSurveyAnswer> answers = largeSurvey.getQuestions().stream()
+                    .map(question -> new SubmitSurveyAnswer(question.getId(), List.of(selected)))
+                    .toList();
+            surveyAnswerService.submitSurveyAnswer(largeSurvey.getId(), answers);
+        }
+        // 대량의 통계 증가분이 다음 테스트 컨텍스트 기동과 겹치지 않도록 바로 반영
+        surveyStatisticsService.flushPendingCounts();
+
+        List<SurveyAnswerValue> exported = new ArrayList<>();
+        surveyAnswerService.exportSurveyAnswers(largeSurvey.getId(), exported::add);
+
+        Assertions.assertThat(exported).hasSize(2);
+        Assertions.assertThat(exported.get(0).getAnswers()).hasSize(questionCount)
+                .allSatisfy(item -> Assertions.assertThat(item.answerValue()).isEqualTo("Option 1"));
+        Assertions.assertThat(exported.get(1).getAnswers()).hasSize(questionCount)
+                .allSatisfy(item -> Assertions.assertThat(item.answerValue()).isEqualTo("Option 2"));
+    }
+
+    @DisplayName("응답 목록 조회 시 응답 수와 관계없이 동일한 수의 쿼리가 실행된다.")
+    @Test
+    void getSurveyAnswersIssuesConstantStatementCount() {
+        submitAnswers(2);
+        long statementsForFewAnswers = countStatements(() -> surveyAnswerService.getSurveyAnswers(
+                SearchSurveyAnswerRequest.builder().surveyId(survey.getId()).build()));
+
+        submitAnswers(15);
+        long statementsForManyAnswers = countStatements(() -> surveyAnswerService.getSurveyAnswers(
+                SearchSurveyAnswerRequest.builder().surveyId(survey.getId()).build()));
+
+        // 서베이 존재 확인, 응답 ID 페이지 조회, 응답/제출 항목/질문 revision fetch join, revision 옵션 batch 조회
+        Assertions.assertThat(statementsForFewAnswers).isEqualTo(4);
+        Assertions.assertThat(statementsForManyAnswers).isEqualTo(statementsForFewAnswers);
+    }
+
+    @DisplayName("서베이 정의가 캐시된 이후의 응답 제출은 서베이를 DB에서 조회하지 않는다.")
+    @Test
+    void submitSurveyAnswerUsesCachedSurveyDefinition() {
+        submitAnswers(1);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            submitAnswers(1);
+
+            Assertions.assertThat(statistics.getEntityLoadCount()).isZero();
+            Assertions.assertThat(statistics.getCollectionFetchCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @DisplayName("서베이 수정 후에는 캐시된 정의가 제거되어 수정된 항목 기준으로 응답을 검증한다.")
+    @Test
+    void submitSurveyAnswerAfterUpdateUsesUpdatedDefinition() {
+        submitAnswers(1);
+        Long questionId1 = survey.getQuestions().get(0).getId();
+        Long questionId2 = survey.getQuestions().get(1).getId();
+
+        SurveyQuestionRequest modifiedQuestion = SurveyQuestionRequest.builder()
+                .questionId(questionId1)
+                .updateType(UpdateType.MODIFY)
+                .question("Question 1")
+                .type(SurveyItemType.SINGLE_SELECT)
+                .required(ItemRequired.REQUIRED)
+                .options(List.of(new SurveyQuestionOptionRequest("Option 3")))
+                .build();
+        surveyService.updateSurvey(new SurveyUpdateRequest(survey.getId(), "Survey 1", "Description 1", List.of(modifiedQuestion)));
+
+        List<SubmitSurveyAnswer> removedOptionAnswers = List.of(
+                new SubmitSurveyAnswer(questionId1, List.of("Option 1")),
+                new SubmitSurveyAnswer(questionId2, List.of("Answer")));
+        assertThrows(SurveySubmitValidationException.class,
+                () -> surveyAnswerService.submitSurveyAnswer(survey.getId(), removedOptionAnswers));
+
+        surveyAnswerService.submitSurveyAnswer(survey.getId(), List.of(
+                new SubmitSurveyAnswer(questionId1, List.of("Option 3")),
+                new SubmitSurveyAnswer(questionId2, List.of("Answer"))));
+    }
+
+    @DisplayName("서베이 수정 전 제출된 응답은 제출 시점의 질문 revision 기준으로 조회된다.")
+    @Test
+    void getSurveyAnswersKeepsQuestionRevisionAtSubmission() {
+        submitAnswers(1);
+        Long questionId1 = survey.getQuestions().get(0).getId();
+        Long questionId2 = survey.getQuestions().get(1).getId();
+
+        SurveyQuestionRequest unchangedQuestion = SurveyQuestionRequest.builder()
+                .questionId(questionId2)
+                .updateType(UpdateType.MODIFY)
+                .question("Question 2")
+                .description("Description 2")
+                .type(SurveyItemType.TEXT)
+                .required(ItemRequired.OPTIONAL)
+                .build();
+        SurveyQuestionRequest modifiedQuestion = SurveyQuestionRequest.builder()
+                .questionId(questionId1)
+                .updateType(UpdateType.MODIFY)
+                .question("Renamed Question 1")
+                .type(SurveyItemType.SINGLE_SELECT)
+                .required(ItemRequired.REQUIRED)
+                .options(List.of(new SurveyQuestionOptionRequest("Option 2"), new SurveyQuestionOptionRequest("Option 1")))
+                .build();
+        surveyService.updateSurvey(new SurveyUpdateRequest(survey.getId(), "Survey 1", "Description 1", List.of(modifiedQuestion, unchangedQuestion)));
+
+        surveyAnswerService.submitSurveyAnswer(survey.getId(), List.of(
+                new SubmitSurveyAnswer(questionId1, List.of("Option 1")),
+                new SubmitSurveyAnswer(questionId2, List.of("Answer"))));
+
+        List<SurveyAnswerValue> answerList = surveyAnswerService.getSurveyAnswers(
+                SearchSurveyAnswerRequest.builder().surveyId(survey.getId()).build()).answerList();
+
+        Assertions.assertThat(answerList).hasSize(2);
+        Assertions.assertThat(answerList.get(0).getAnswers())
+                .contains(new SurveyAnswerItem("Question 1", "Option 1"));
+        Assertions.assertThat(answerList.get(1).getAnswers())
+                .contains(new SurveyAnswerItem("Renamed Question 1", "Option 1"));
+
+        // 내용이 바뀐 질문만 새 revision 이 발행됨
+        List<Integer> revisionNumbers = transactionTemplate.execute(status -> surveyJpaRepository.findById(survey.getId()).orElseThrow()
+                .getQuestions().stream()
+                .map(question -> question.getCurrentRevision().getRevisionNumber())
+                .toList());
+        Assertions.assertThat(revisionNumbers).containsExactlyInAnyOrder(2, 1);
+    }
+
+    @DisplayName("같은 Idempotency-Key 로 다시 제출하면 검증/저장 없이 처음 제출 결과를 반환한다.")
+    @Test
+    void submitSurveyAnswerWithSameIdempotencyKeyReturnsFirstSubmission() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        List<SubmitSurveyAnswer> answers = List.of(
+                new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of("Option 1")),
+                new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of("Answer")));
+        double cacheHits = meterRegistry.counter(SurveyAnswerIdempotencyService.LOOKUP_METRIC, "result", "cache_hit").count();
+
+        IdempotentSubmission first = surveyAnswerService.submitSurveyAnswer(survey.getId(), answers, idempotencyKey);
+        long statementCount = countStatements(() -> {
+            IdempotentSubmission retried = surveyAnswerService.submitSurveyAnswer(survey.getId(), answers, idempotencyKey);
+            Assertions.assertThat(retried.answerId()).isEqualTo(first.answerId());
+        });
+
+        Assertions.assertThat(statementCount).isZero();
+        Assertions.assertThat(meterRegistry.counter(SurveyAnswerIdempotencyService.LOOKUP_METRIC, "result", "cache_hit").count())
+                .isEqualTo(cacheHits + 1);
+        Assertions.assertThat(surveyAnswerService.getSurveyAnswers(
+                SearchSurveyAnswerRequest.builder().surveyId(survey.getId()).build()).answerList()).hasSize(1);
+    }
+
+    @DisplayName("메모리 캐시에 없는 키는 Bloom filter 를 거쳐 DB 에 저장된 제출 결과로 확인한다.")
+    @Test
+    void findPreviousSubmissionFallsBackToDatabaseAfterRestart() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        IdempotentSubmission first = surveyAnswerService.submitSurveyAnswer(survey.getId(), List.of(
+                new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of("Option 1")),
+                new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of("Answer"))), idempotencyKey);
+
+        // 재시작한 인스턴스와 같이 빈 캐시로 생성 후 최근 키로 Bloom filter 를 채움
+        SimpleMeterRegistry restartedRegistry = new SimpleMeterRegistry();
+        SurveyAnswerIdempotencyService restarted = new SurveyAnswerIdempotencyService(idempotencyRepository, restartedRegistry, 100, 60, 1000, 24);
+        restarted.warmUpBloomFilter();
+
+        Assertions.assertThat(restarted.findPreviousSubmission(survey.getId(), idempotencyKey))
+                .hasValueSatisfying(submission -> Assertions.assertThat(submission.answerId()).isEqualTo(first.answerId()));
+        Assertions.assertThat(restarted.findPreviousSubmission(survey.getId(), UUID.randomUUID().toString())).isEmpty();
+        Assertions.assertThat(restartedRegistry.counter(SurveyAnswerIdempotencyService.LOOKUP_METRIC, "result", "database_hit").count()).isEqualTo(1);
+        Assertions.assertThat(restarted.getDedupeHitRatio()).isPositive();
+    }
+
+    @Test
+    void failTest_submitSurveyAnswerWithTooLongIdempotencyKey() {
+        List<SubmitSurveyAnswer> answers = List.of(
+                new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of("Option 1")));
+
+        Assertions.assertThatThrownBy(() -> surveyAnswerService.submitSurveyAnswer(survey.getId(), answers, "k".repeat(101)))
+                .isInstanceOf(SurveySubmitValidationException.class)
+                .satisfies(exception -> Assertions.assertThat(((SurveySubmitValidationException) exception).getServiceError().getCode()).isEqualTo("3007"));
+    }
+
+    private void submitAnswers(int count) {
+        for (int i = 0; i < count; i++) {
+            List<SubmitSurveyAnswer> answers = new ArrayList<>();
+            answers.add(new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of("Option 1")));
+            answers.add(new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of("Answer " + i)));
+            surveyAnswerService.submitSurveyAnswer(survey.getId(), answers);
+        }
+    }
+
+    private long countStatements(Runnable action) {
+        return sqlStatementCounter.count(action).count();
+    }
+
+}
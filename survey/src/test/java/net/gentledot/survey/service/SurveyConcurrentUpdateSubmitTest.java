@@ -0,0 +1,209 @@
+package net.gentledot.survey.service;
+
+import net.gentledot.survey.application.service.SurveyAnswerService;
+import net.gentledot.survey.application.service.SurveyService;
+import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.in.model.request.SurveyCreateRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyQuestionRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyUpdateRequest;
+import net.gentledot.survey.application.service.in.model.response.SurveyCreateResponse;
+import net.gentledot.survey.application.service.out.SurveyRepository;
+import net.gentledot.survey.domain.enums.ItemRequired;
+import net.gentledot.survey.domain.enums.SurveyItemType;
+import net.gentledot.survey.domain.enums.UpdateType;
+import net.gentledot.survey.domain.exception.SurveyUpdateConflictException;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.domain.surveybase.definition.SurveyQuestionDefinition;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 서베이 수정(PUT)과 응답 제출이 동시에 실행될 때,
+ * 제출된 응답은 항상 한 버전의 서베이 정의(모든 질문이 같은 revision 차수)만 참조해야 한다.
+ * */
+@SpringBootTest
+class SurveyConcurrentUpdateSubmitTest {
+    private static final int QUESTION_COUNT = 5;
+    private static final int SUBMITTER_COUNT = 8;
+    private static final int SUBMISSION_COUNT = 2000;
+    private static final int UPDATER_COUNT = 2;
+
+    @Autowired
+    SurveyService surveyService;
+
+    @Autowired
+    SurveyAnswerService surveyAnswerService;
+
+    @Autowired
+    SurveyRepository surveyRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @DisplayName("수정과 수천 건의 응답 제출이 겹쳐도 제출은 실패하지 않고, 각 응답은 섞이지 않은 한 버전의 질문 revision 만 참조한다.")
+    @Test
+    void concurrentUpdatesAndSubmissionsKeepConsistentSnapshots() throws Exception {
+        SurveyCreateResponse createdSurvey = surveyService.createSurvey(createRequest());
+        String surveyId = createdSurvey.getSurveyId();
+        List<Long> questionIds = createdSurvey.getQuestions().stream()
+                .map(question -> question.getQuestionId())
+                .toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(SUBMITTER_COUNT + UPDATER_COUNT);
+        AtomicBoolean submitting = new AtomicBoolean(true);
+        AtomicInteger nextSubmission = new AtomicInteger();
+        AtomicInteger appliedUpdates = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> updaters = new ArrayList<>();
+            for (int updater = 0; updater < UPDATER_COUNT; updater++) {
+                int updaterId = updater;
+                updaters.add(executor.submit(() -> {
+                    await(start);
+                    int sequence = 0;
+                    while (submitting.get()) {
+                        try {
+                            surveyService.updateSurvey(updateRequest(surveyId, questionIds, updaterId + "-" + sequence++));
+                            appliedUpdates.incrementAndGet();
+                        } catch (SurveyUpdateConflictException | OptimisticLockingFailureException e) {
+                            conflicts.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failures.add(e);
+                        }
+                    }
+                }));
+            }
+
+            List<Future<?>> submitters = new ArrayList<>();
+            for (int submitter = 0; submitter < SUBMITTER_COUNT; submitter++) {
+                submitters.add(executor.submit(() -> {
+                    await(start);
+                    int sequence;
+                    while ((sequence = nextSubmission.getAndIncrement()) < SUBMISSION_COUNT) {
+                        try {
+                            surveyAnswerService.submitSurveyAnswer(surveyId, answers(questionIds, sequence));
+                        } catch (RuntimeException e) {
+                            failures.add(e);
+                        }
+                    }
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> submitter : submitters) {
+                submitter.get(2, TimeUnit.MINUTES);
+            }
+            submitting.set(false);
+            for (Future<?> updater : updaters) {
+                updater.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertThat(failures).isEmpty();
+        Assertions.assertThat(appliedUpdates.get()).isPositive();
+
+        // 응답별로 참조한 질문 revision 차수가 모두 같아야 함 (수정 전/후 정의가 섞이지 않음)
+        List<Map<String, Object>> revisionRanges = jdbcTemplate.queryForList("""
+                select a.id, min(r.revision_number) as min_revision, max(r.revision_number) as max_revision, count(*) as answer_count
+                  from survey_answer a
+                  join survey_answer_submission s on s.survey_answer_id = a.id
+                  join survey_question_revision r on r.id = s.question_revision_id
+                 where a.survey_id = ?
+                 group by a.id
+                """, surveyId);
+        Assertions.assertThat(revisionRanges).hasSize(SUBMISSION_COUNT);
+        Assertions.assertThat(revisionRanges).allSatisfy(range -> {
+            Assertions.assertThat(range.get("MIN_REVISION")).as("%s", range).isEqualTo(range.get("MAX_REVISION"));
+            Assertions.assertThat(((Number) range.get("ANSWER_COUNT")).intValue()).as("%s", range).isEqualTo(QUESTION_COUNT);
+        });
+        // 제출이 수정 사이사이에 반영되었는지 확인
+        Assertions.assertThat(revisionRanges.stream().map(range -> range.get("MIN_REVISION")).distinct().count())
+                .isGreaterThan(1);
+
+        // 마지막으로 게시된 정의는 DB 의 최신 상태와 같아야 함
+        SurveyDefinition published = surveyRepository.findDefinitionById(surveyId);
+        SurveyDefinition rebuilt = transactionTemplate.execute(status -> SurveyDefinition.from(surveyRepository.findById(surveyId)));
+        Assertions.assertThat(published.getVersion()).isEqualTo(rebuilt.getVersion());
+        Assertions.assertThat(published.getQuestions()).extracting(SurveyQuestionDefinition::getRevisionId)
+                .containsExactlyElementsOf(rebuilt.getQuestions().stream().map(SurveyQuestionDefinition::getRevisionId).toList());
+    }
+
+    private static void await(CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SurveyCreateRequest createRequest() {
+        List<SurveyQuestionRequest> questions = new ArrayList<>();
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            questions.add(textQuestion(null, "question" + i));
+        }
+        return SurveyCreateRequest.builder()
+                .name("concurrent")
+                .description("concurrent update and submit")
+                .questions(questions)
+                .build();
+    }
+
+    // 모든 질문의 내용을 바꿔 질문마다 새 revision 이 함께 발행되도록 함
+    private static SurveyUpdateRequest updateRequest(String surveyId, List<Long> questionIds, String sequence) {
+        List<SurveyQuestionRequest> questions = new ArrayList<>();
+        for (int i = 0; i < questionIds.size(); i++) {
+            questions.add(textQuestion(questionIds.get(i), "question" + i + " " + sequence));
+        }
+        return SurveyUpdateRequest.builder()
+                .id(surveyId)
+                .name("concurrent")
+                .description("concurrent update and submit")
+                .questions(questions)
+                .build();
+    }
+
+    private static SurveyQuestionRequest textQuestion(Long questionId, String question) {
+        return SurveyQuestionRequest.builder()
+                .updateType(questionId == null ? null : UpdateType.MODIFY)
+                .questionId(questionId)
+                .question(question)
+                .description("description")
+                .type(SurveyItemType.TEXT)
+                .required(ItemRequired.REQUIRED)
+                .options(List.of())
+                .build();
+    }
+
+    private static List<SubmitSurveyAnswer> answers(List<Long> questionIds, int sequence) {
+        return questionIds.stream()
+                .map(questionId -> new SubmitSurveyAnswer(questionId, List.of("answer " + sequence)))
+                .toList();
+    }
+}
@@ -0,0 +1,233 @@
+package net.gentledot.survey.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.gentledot.survey.application.service.SurveyAnswerService;
+import net.gentledot.survey.application.service.SurveyLiveResultService;
+import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.statistics.OptionCountKey;
+import net.gentledot.survey.application.service.statistics.SurveyAnswerSubmittedEvent;
+import net.gentledot.survey.config.SqlStatementCounter;
+import net.gentledot.survey.config.SqlStatementCountingConfiguration;
+import net.gentledot.survey.domain.enums.ItemRequired;
+import net.gentledot.survey.domain.enums.SurveyItemType;
+import net.gentledot.survey.domain.surveybase.Survey;
+import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
+import net.gentledot.survey.domain.surveybase.dto.SurveyQuestionOptionDto;
+import net.gentledot.survey.infra.repository.jpa.SurveyJpaRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+// 전송 주기가 검증 도중 끼어들지 않도록 주기를 길게 설정하고, 테스트에서 직접 전송
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "survey.live.tick-interval-ms=3600000")
+@Import(SqlStatementCountingConfiguration.class)
+class SurveyLiveResultServiceProcessTest {
+    private static final int VIEWER_COUNT = 3;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    SurveyLiveResultService surveyLiveResultService;
+
+    @Autowired
+    SurveyAnswerService surveyAnswerService;
+
+    @Autowired
+    SurveyJpaRepository surveyJpaRepository;
+
+    @Autowired
+    SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private Survey survey;
+
+    @BeforeEach
+    void setUp() {
+        List<SurveyQuestionOption> options = new ArrayList<>();
+        options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("좋아요")));
+        options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("안좋아요")));
+        List<SurveyQuestion> questions = new ArrayList<>();
+        questions.add(SurveyQuestion.of("오늘의 기분", "Description 1", SurveyItemType.SINGLE_SELECT, ItemRequired.REQUIRED, options));
+        questions.add(SurveyQuestion.of("의견", "Description 2", SurveyItemType.TEXT, ItemRequired.OPTIONAL, null));
+        survey = surveyJpaRepository.save(Survey.of("Survey 1", "Description 1", questions));
+    }
+
+    @DisplayName("전송 주기 동안 제출된 응답은 서베이별 이벤트 하나로 합산되어, DB 조회 없이 모든 구독자에게 전달된다.")
+    @Test
+    void coalesceSubmissionsIntoSingleDeltaPerTick() throws Exception {
+        List<Stream<String>> viewers = new ArrayList<>();
+        for (int i = 0; i < VIEWER_COUNT; i++) {
+            HttpResponse<Stream<String>> response = client.send(liveRequest(survey.getId()), HttpResponse.BodyHandlers.ofLines());
+            Assertions.assertThat(response.statusCode()).isEqualTo(200);
+            Assertions.assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(type -> Assertions.assertThat(type).startsWith("text/event-stream"));
+            viewers.add(response.body());
+        }
+        Assertions.assertThat(surveyLiveResultService.getSubscriberCount(survey.getId())).isEqualTo(VIEWER_COUNT);
+
+        surveyAnswerService.submitSurveyAnswer(survey.getId(), answers("좋아요"));
+        surveyAnswerService.submitSurveyAnswer(survey.getId(), answers("좋아요"));
+        surveyAnswerService.submitSurveyAnswer(survey.getId(), answers("안좋아요"));
+
+        SqlStatementCounter.RecordedStatements tick = sqlStatementCounter.count(surveyLiveResultService::publishPendingDeltas);
+        Assertions.assertThat(tick.count()).as("%s", tick).isZero();
+
+        for (Stream<String> viewer : viewers) {
+            JsonNode delta = objectMapper.readTree(readFirstDelta(viewer));
+            Assertions.assertThat(delta.get("surveyId").asText()).isEqualTo(survey.getId());
+            Assertions.assertThat(delta.get("newAnswerCount").asLong()).isEqualTo(3);
+
+            JsonNode question = delta.get("questions").get(0);
+            Assertions.assertThat(question.get("questionId").asLong()).isEqualTo(survey.getQuestions().get(0).getId());
+            Assertions.assertThat(question.get("options")).hasSize(2);
+            question.get("options").forEach(option -> Assertions.assertThat(option.get("count").asLong())
+                    .isEqualTo("좋아요".equals(option.get("option").asText()) ? 2 : 1));
+            viewer.close();
+        }
+    }
+
+    @DisplayName("새 응답이 없는 전송 주기에도 모든 구독자에게 heartbeat 주석이 전송된다.")
+    @Test
+    void sendHeartbeatEveryTick() throws Exception {
+        List<Stream<String>> viewers = new ArrayList<>();
+        for (int i = 0; i < VIEWER_COUNT; i++) {
+            viewers.add(client.send(liveRequest(survey.getId()), HttpResponse.BodyHandlers.ofLines()).body());
+        }
+
+        surveyLiveResultService.publishPendingDeltas();
+
+        for (Stream<String> viewer : viewers) {
+            Assertions.assertThat(readUntil(viewer, ":" + SurveyLiveResultService.HEARTBEAT_COMMENT)).isTrue();
+            viewer.close();
+        }
+    }
+
+    @DisplayName("애플리케이션 종료 시 열린 구독은 모두 완료되어 연결이 바로 닫힌다.")
+    @Test
+    void completeSubscribersOnShutdown() throws Exception {
+        Stream<String> viewer = client.send(liveRequest(survey.getId()), HttpResponse.BodyHandlers.ofLines()).body();
+        Assertions.assertThat(surveyLiveResultService.getSubscriberCount(survey.getId())).isEqualTo(1);
+
+        surveyLiveResultService.completeAllSubscribers();
+
+        // 서버가 응답을 완료하면 스트림이 끝까지 읽힘
+        Assertions.assertThat(readUntil(viewer, "never sent")).isFalse();
+        Assertions.assertThat(surveyLiveResultService.getSubscriberCount(survey.getId())).isZero();
+        viewer.close();
+    }
+
+    @DisplayName("구독/해제가 응답 제출과 동시에 반복되어도, 구독자가 모두 해제된 서베이에는 전송되지 않은 증가분이 남지 않는다.")
+    @Test
+    void concurrentSubscribeAndUnsubscribeLeaveNoPendingDeltas() throws Exception {
+        OptionCountKey key = new OptionCountKey(survey.getId(), survey.getQuestions().get(0).getId(), "좋아요");
+        SurveyAnswerSubmittedEvent event = new SurveyAnswerSubmittedEvent(survey.getId(), Map.of(key, 1L));
+        AtomicBoolean submitting = new AtomicBoolean(true);
+        CompletableFuture<Void> submitter = CompletableFuture.runAsync(() -> {
+            while (submitting.get()) {
+                surveyLiveResultService.onAnswerSubmitted(event);
+            }
+        });
+
+        try {
+            for (int round = 0; round < 10; round++) {
+                List<CompletableFuture<HttpResponse<Stream<String>>>> viewers = new ArrayList<>();
+                for (int i = 0; i < VIEWER_COUNT; i++) {
+                    viewers.add(client.sendAsync(liveRequest(survey.getId()), HttpResponse.BodyHandlers.ofLines()));
+                }
+                for (CompletableFuture<HttpResponse<Stream<String>>> viewer : viewers) {
+                    Assertions.assertThat(viewer.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+                }
+
+                surveyLiveResultService.completeAllSubscribers();
+
+                Assertions.assertThat(surveyLiveResultService.getSubscriberCount(survey.getId())).isZero();
+                for (CompletableFuture<HttpResponse<Stream<String>>> viewer : viewers) {
+                    viewer.get().body().close();
+                }
+            }
+        } finally {
+            submitting.set(false);
+            submitter.get(10, TimeUnit.SECONDS);
+        }
+
+        Assertions.assertThat(surveyLiveResultService.hasPendingDeltas(survey.getId())).isFalse();
+    }
+
+    @DisplayName("존재하지 않는 서베이는 구독할 수 없다.")
+    @Test
+    void subscribeUnknownSurvey() throws Exception {
+        HttpResponse<String> response = client.send(liveRequest("unknown-survey"), HttpResponse.BodyHandlers.ofString());
+
+        Assertions.assertThat(response.statusCode()).isEqualTo(400);
+        Assertions.assertThat(surveyLiveResultService.getSubscriberCount("unknown-survey")).isZero();
+    }
+
+    private HttpRequest liveRequest(String surveyId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/survey/" + surveyId + "/live"))
+                .header("Accept", "text/event-stream")
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+
+    private List<SubmitSurveyAnswer> answers(String selected) {
+        return List.of(
+                new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), List.of(selected)),
+                new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of("의견")));
+    }
+
+    // 기대한 줄을 읽으면 true, 그 전에 연결이 끝나면 false
+    private static boolean readUntil(Stream<String> viewer, String expectedLine) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            Iterator<String> lines = viewer.iterator();
+            while (lines.hasNext()) {
+                if (lines.next().equals(expectedLine)) {
+                    return true;
+                }
+            }
+            return false;
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    // "event:delta" 다음의 "data:" 줄을 읽음
+    private static String readFirstDelta(Stream<String> viewer) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            Iterator<String> lines = viewer.iterator();
+            boolean deltaEvent = false;
+            while (lines.hasNext()) {
+                String line = lines.next();
+                if (line.equals("event:" + SurveyLiveResultService.DELTA_EVENT_NAME)) {
+                    deltaEvent = true;
+                } else if (deltaEvent && line.startsWith("data:")) {
+                    return line.substring("data:".length());
+                }
+            }
+            throw new IllegalStateException("delta 이벤트를 받지 못함");
+        }).get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,84 @@
+package net.gentledot.survey.service;
+
+import net.gentledot.survey.application.service.statistics.OptionCountKey;
+import net.gentledot.survey.application.service.statistics.SurveyOptionCountAccumulator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SurveyOptionCountAccumulatorTest {
+
+    @DisplayName("drain 된 옵션 키는 누적기에 남지 않는다")
+    @Test
+    void drainRemovesDrainedKeys() {
+        SurveyOptionCountAccumulator accumulator = new SurveyOptionCountAccumulator();
+        OptionCountKey key = new OptionCountKey("survey-1", 1L, "option1");
+        accumulator.add(key, 2);
+        accumulator.add(key, 3);
+
+        Map<OptionCountKey, Long> drained = accumulator.drain();
+
+        assertThat(drained).containsExactlyEntriesOf(Map.of(key, 5L));
+        assertThat(accumulator.isEmpty()).isTrue();
+        assertThat(accumulator.drain()).isEmpty();
+    }
+
+    @DisplayName("drain 과 동시에 더해진 증가분은 유실되지 않고 다음 drain 에 포함된다")
+    @Test
+    void concurrentAddAndDrainLosesNothing() throws Exception {
+        SurveyOptionCountAccumulator accumulator = new SurveyOptionCountAccumulator();
+        int writerCount = 4;
+        int addsPerWriter = 20_000;
+        List<OptionCountKey> keys = List.of(
+                new OptionCountKey("survey-1", 1L, "option1"),
+                new OptionCountKey("survey-1", 1L, "option2"),
+                new OptionCountKey("survey-2", 2L, "option1"));
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount + 1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < writerCount; i++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < addsPerWriter; n++) {
+                        accumulator.add(keys.get(n % keys.size()), 1);
+                    }
+                    return null;
+                }));
+            }
+            Future<Long> drainer = executor.submit(() -> {
+                long total = 0;
+                start.await();
+                while (writing.get()) {
+                    total += accumulator.drain().values().stream().mapToLong(Long::longValue).sum();
+                }
+                return total;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            long total = drainer.get(30, TimeUnit.SECONDS)
+                    + accumulator.drain().values().stream().mapToLong(Long::longValue).sum();
+
+            assertThat(total).isEqualTo((long) writerCount * addsPerWriter);
+            assertThat(accumulator.isEmpty()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,33 +1,58 @@
 package net.gentledot.survey.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
 import net.gentledot.survey.application.service.SurveyService;
 import net.gentledot.survey.application.service.in.model.request.SurveyCreateRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyPatchRequest;
 import net.gentledot.survey.application.service.in.model.request.SurveyQuestionOptionRequest;
+import net.gentledot.survey.application.service.in.model.request.SurveyQuestionPatchRequest;
 import net.gentledot.survey.application.service.in.model.request.SurveyQuestionRequest;
 import net.gentledot.survey.application.service.in.model.request.SurveyUpdateRequest;
 import net.gentledot.survey.application.service.in.model.response.SurveyCreateResponse;
 import net.gentledot.survey.application.service.in.model.response.SurveyUpdateResponse;
+import net.gentledot.survey.application.service.out.SurveyRepository;
+import net.gentledot.survey.application.service.util.SurveyValidator;
+import net.gentledot.survey.config.SqlStatementCounter;
+import net.gentledot.survey.config.SqlStatementCountingConfiguration;
 import net.gentledot.survey.domain.enums.ItemRequired;
 import net.gentledot.survey.domain.enums.SurveyItemType;
 import net.gentledot.survey.domain.enums.UpdateType;
 import net.gentledot.survey.domain.exception.ServiceError;
 import net.gentledot.survey.domain.exception.SurveyCreationException;
+import net.gentledot.survey.domain.exception.SurveyNotFoundException;
+import net.gentledot.survey.domain.exception.SurveyUpdateConflictException;
 import net.gentledot.survey.domain.surveybase.Survey;
 import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
+import net.gentledot.survey.domain.surveybase.definition.SurveyDefinition;
+import net.gentledot.survey.infra.configuration.CacheConfiguration;
 import net.gentledot.survey.infra.repository.jpa.SurveyJpaQuestionRepository;
 import net.gentledot.survey.infra.repository.jpa.SurveyJpaRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @SpringBootTest
+@Import(SqlStatementCountingConfiguration.class)
 class SurveyServiceProcessTest {
+    // 서베이 insert/update, 질문/revision batch insert, sequence 할당(질문/revision 각 1회)
+    // (@Version 이 null 인 새 서베이는 merge 조회 없이 persist 됨)
+    private static final int CREATE_BASE_STATEMENT_BUDGET = 6;
+    // 질문별 옵션 컬렉션 insert (질문 옵션, revision 옵션)
+    private static final int CREATE_STATEMENT_BUDGET_PER_QUESTION = 2;
 
     private SurveyCreateRequest surveyRequest;
 
@@ -43,6 +68,21 @@ class SurveyServiceProcessTest {
     @Autowired
     private SurveyJpaQuestionRepository surveyQuestionRepository;
 
+    @Autowired
+    SurveyRepository surveyRepository;
+
+    @Autowired
+    SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    CacheManager cacheManager;
+
     @BeforeEach
     void setUp() {
         surveyRequest = SurveyCreateRequest.builder()
@@ -69,6 +109,318 @@ class SurveyServiceProcessTest {
         Assertions.assertThat(createdSurvey.getCreatedAt()).isBefore(LocalDateTime.now());
     }
 
+    @DisplayName("서베이 생성은 질문별 옵션 insert 외에 질문 수만큼 쿼리가 늘어나지 않는다.")
+    @Test
+    void createSurveyStaysWithinStatementBudget() {
+        SqlStatementCounter.RecordedStatements singleQuestion = sqlStatementCounter.count(() -> surveyService.createSurvey(surveyRequest));
+        SqlStatementCounter.RecordedStatements manyQuestions = sqlStatementCounter.count(() -> surveyService.createSurvey(createRequestWithQuestions(10)));
+
+        Assertions.assertThat(singleQuestion.count()).as("%s", singleQuestion).isLessThanOrEqualTo(createStatementBudget(1));
+        Assertions.assertThat(manyQuestions.count()).as("%s", manyQuestions).isLessThanOrEqualTo(createStatementBudget(10));
+    }
+
+    private double definitionCacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", CacheConfiguration.SURVEY_DEFINITION_CACHE, "result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static int createStatementBudget(int questionCount) {
+        return CREATE_BASE_STATEMENT_BUDGET + CREATE_STATEMENT_BUDGET_PER_QUESTION * questionCount;
+    }
+
+    @DisplayName("200개 옵션 중 하나를 수정하면 해당 옵션 행만 update 되고, 줄어든 옵션은 뒤에서부터 삭제된다.")
+    @Test
+    void updateQuestionOptionsTouchesOnlyChangedRows() {
+        int optionCount = 200;
+        List<SurveyQuestionOptionRequest> options = new ArrayList<>();
+        for (int i = 0; i < optionCount; i++) {
+            options.add(new SurveyQuestionOptionRequest("option" + i));
+        }
+        SurveyCreateResponse createdSurvey = surveyService.createSurvey(SurveyCreateRequest.builder()
+                .name("test")
+                .description("survey description")
+                .questions(List.of(optionQuestionRequest(null, options)))
+                .build());
+        Long questionId = createdSurvey.getQuestions().getFirst().getQuestionId();
+
+        List<SurveyQuestionOptionRequest> editedOptions = new ArrayList<>(options);
+        editedOptions.set(150, new SurveyQuestionOptionRequest("edited option150"));
+        SqlStatementCounter.RecordedStatements edit = sqlStatementCounter.count(() -> surveyService.updateSurvey(
+                optionUpdateRequest(createdSurvey.getSurveyId(), questionId, editedOptions)));
+
+        Assertions.assertThat(questionOptionStatements(edit))
+                .as("%s", edit)
+                .containsExactly("[batch 1] update survey_question_option set option_text=? where survey_question_id=? and option_index=?");
+
+        List<SurveyQuestionOptionRequest> shrunkOptions = new ArrayList<>(editedOptions.subList(0, editedOptions.size() - 2));
+        SqlStatementCounter.RecordedStatements shrink = sqlStatementCounter.count(() -> surveyService.updateSurvey(
+                optionUpdateRequest(createdSurvey.getSurveyId(), questionId, shrunkOptions)));
+
+        Assertions.assertThat(questionOptionStatements(shrink))
+                .as("%s", shrink)
+                .containsExactly("[batch 2] delete from survey_question_option where survey_question_id=? and option_index=?");
+
+        List<String> savedOptions = transactionTemplate.execute(status -> questionRepository.findById(questionId).get()
+                .getOptions().stream()
+                .map(SurveyQuestionOption::getOptionText)
+                .toList());
+        Assertions.assertThat(savedOptions)
+                .hasSize(optionCount - 2)
+                .startsWith("option0", "option1")
+                .contains("edited option150")
+                .doesNotContain("option150");
+    }
+
+    private static SurveyQuestionRequest optionQuestionRequest(Long questionId, List<SurveyQuestionOptionRequest> options) {
+        return SurveyQuestionRequest.builder()
+                .updateType(questionId == null ? null : UpdateType.MODIFY)
+                .questionId(questionId)
+                .question("question")
+                .description("question description")
+                .type(SurveyItemType.MULTI_SELECT)
+                .required(ItemRequired.REQUIRED)
+                .options(options)
+                .build();
+    }
+
+    private static SurveyUpdateRequest optionUpdateRequest(String surveyId, Long questionId, List<SurveyQuestionOptionRequest> options) {
+        return SurveyUpdateRequest.builder()
+                .id(surveyId)
+                .name("test")
+                .description("survey description")
+                .questions(List.of(optionQuestionRequest(questionId, options)))
+                .build();
+    }
+
+    private static List<String> questionOptionStatements(SqlStatementCounter.RecordedStatements recorded) {
+        return recorded.statements().stream()
+                .filter(statement -> !statement.startsWith("select"))
+                .filter(statement -> statement.contains(" survey_question_option "))
+                .toList();
+    }
+
+    @DisplayName("서베이 제목 부분 수정은 질문을 읽지 않고 버전 조건부 update 한 번으로 처리되고, 이전 버전으로 요청하면 충돌한다. 설명은 null 로 입력하면 지워진다.")
+    @Test
+    void patchSurveyRunsSingleVersionedUpdate() {
+        SurveyCreateResponse createdSurvey = surveyService.createSurvey(createRequestWithQuestions(3));
+        String surveyId = createdSurvey.getSurveyId();
+        SurveyPatchRequest patchRequest = SurveyPatchRequest.builder()
+                .version(createdSurvey.getVersion())
+                .name("patched")
+                .build();
+
+        SqlStatementCounter.RecordedStatements patch = sqlStatementCounter.count(() -> surveyService.patchSurvey(surveyId, patchRequest));
+
+        Assertions.assertThat(patch.statements())
+                .as("%s", patch)
+                .singleElement()
+                .satisfies(statement -> Assertions.assertThat(statement).startsWith("update survey s1_0 set name="));
+        Survey patched = surveyJpaRepository.findById(surveyId).get();
+        Assertions.assertThat(patched.getName()).isEqualTo("patched");
+        Assertions.assertThat(patched.getDescription()).isEqualTo("survey description");
+        Assertions.assertThat(patched.getVersion()).isEqualTo(createdSurvey.getVersion() + 1);
+
+        Assertions.assertThatThrownBy(() -> surveyService.patchSurvey(surveyId, patchRequest))
+                .isInstanceOf(SurveyUpdateConflictException.class)
+                .hasMessageContaining(ServiceError.UPDATE_VERSION_CONFLICT.getMessage());
+
+        // 설명을 null 로 입력하면 설명을 지우고, 제목은 유지
+        surveyService.patchSurvey(surveyId, SurveyPatchRequest.builder()
+                .version(patched.getVersion())
+                .description(null)
+                .build());
+        Survey cleared = surveyJpaRepository.findById(surveyId).get();
+        Assertions.assertThat(cleared.getName()).isEqualTo("patched");
+        Assertions.assertThat(cleared.getDescription()).isNull();
+        Assertions.assertThatThrownBy(() -> surveyService.patchSurvey("not-exists", patchRequest))
+                .isInstanceOf(SurveyNotFoundException.class);
+    }
+
+    @DisplayName("질문 부분 수정은 대상 질문만 읽어 수정하고 새 revision 을 발행하며 서베이 버전을 올린다.")
+    @Test
+    void patchSurveyQuestionLoadsOnlyTargetQuestion() {
+        SurveyCreateResponse createdSurvey = surveyService.createSurvey(createRequestWithQuestions(3));
+        String surveyId = createdSurvey.getSurveyId();
+        Long questionId = createdSurvey.getQuestions().get(1).getQuestionId();
+        Long beforeRevisionId = transactionTemplate.execute(status -> questionRepository.findById(questionId).get().getCurrentRevision().getId());
+
+        SqlStatementCounter.RecordedStatements patch = sqlStatementCounter.count(() -> surveyService.patchSurveyQuestion(surveyId, questionId,
+                SurveyQuestionPatchRequest.builder()
+                        .version(createdSurvey.getVersion())
+                        .question("patched question")
+                        .required(ItemRequired.OPTIONAL)
+                        .build()));
+
+        // 서베이의 질문 목록 전체를 읽는 쿼리(survey_id 조건)가 없어야 함
+        Assertions.assertThat(patch.statements())
+                .as("%s", patch)
+                .noneMatch(statement -> statement.startsWith("select") && statement.contains("where sq1_0.survey_id=?"))
+                .anyMatch(statement -> statement.startsWith("update survey s1_0 set version="));
+        SurveyQuestion patched = transactionTemplate.execute(status -> {
+            SurveyQuestion question = questionRepository.findById(questionId).get();
+            question.getCurrentRevision().getId();
+            return question;
+        });
+        Assertions.assertThat(patched.getItemName()).isEqualTo("patched question");
+        Assertions.assertThat(patched.getItemDescription()).isEqualTo("question1 description");
+        Assertions.assertThat(patched.getRequired()).isEqualTo(ItemRequired.OPTIONAL);
+        Assertions.assertThat(patched.getCurrentRevision().getId()).isNotEqualTo(beforeRevisionId);
+        Assertions.assertThat(surveyJpaRepository.findById(surveyId).get().getVersion()).isEqualTo(createdSurvey.getVersion() + 1);
+
+        Assertions.assertThatThrownBy(() -> surveyService.patchSurveyQuestion(surveyId, questionId,
+                        SurveyQuestionPatchRequest.builder().version(createdSurvey.getVersion()).question("stale").build()))
+                .isInstanceOf(SurveyUpdateConflictException.class);
+    }
+
+    @DisplayName("질문 내용만 수정해도 서베이 버전이 올라가고, 수정된 정의가 게시되어 DB 조회 없이 응답 검증에 사용된다.")
+    @Test
+    void updatesPublishNewDefinitionVersion() {
+        SurveyCreateResponse createdSurvey = surveyService.createSurvey(createRequestWithQuestions(3));
+        String surveyId = createdSurvey.getSurveyId();
+        Long questionId = createdSurvey.getQuestions().get(1).getQuestionId();
+        surveyRepository.findDefinitionById(surveyId);
+        LocalDateTime createdUpdatedAt = surveyJpaRepository.findById(surveyId).get().getUpdatedAt();
+
+        SurveyUpdateResponse updated = surveyService.updateSurvey(SurveyUpdateRequest.builder()
+                .id(surveyId)
+                .name("test")
+                .description("survey description")
+                .questions(List.of(optionQuestionRequest(questionId, List.of(new SurveyQuestionOptionRequest("changed option")))))
+                .build());
+
+        Assertions.assertThat(updated.getVersion()).isEqualTo(createdSurvey.getVersion() + 1);
+        // 서베이 행이 update 되지 않아도 수정 시각은 이번 수정 시각으로 기록되고 응답된다.
+        Assertions.assertThat(updated.getUpdatedAt()).isAfter(createdUpdatedAt);
+        Assertions.assertThat(surveyJpaRepository.findById(surveyId).get().getUpdatedAt()).isAfter(createdUpdatedAt);
+        SqlStatementCounter.RecordedStatements afterUpdate = sqlStatementCounter.count(() -> Assertions.assertThat(surveyRepository.findDefinitionById(surveyId))
+                .satisfies(definition -> {
+                    Assertions.assertThat(definition.getVersion()).isEqualTo(updated.getVersion());
+                    Assertions.assertThat(definition.getQuestion(questionId).getOptions()).containsExactly("changed option");
+                }));
+        Assertions.assertThat(afterUpdate.count()).as("%s", afterUpdate).isZero();
+
+        surveyService.patchSurveyQuestion(surveyId, questionId, SurveyQuestionPatchRequest.builder()
+                .version(updated.getVersion())
+                .question("patched question")
+                .build());
+
+        Long patchedRevisionId = transactionTemplate.execute(status -> questionRepository.findById(questionId).get().getCurrentRevision().getId());
+        SqlStatementCounter.RecordedStatements afterPatch = sqlStatementCounter.count(() -> Assertions.assertThat(surveyRepository.findDefinitionById(surveyId))
+                .satisfies(definition -> {
+                    Assertions.assertThat(definition.getVersion()).isEqualTo(updated.getVersion() + 1);
+                    Assertions.assertThat(definition.getQuestion(questionId).getItemName()).isEqualTo("patched question");
+                    Assertions.assertThat(definition.getQuestion(questionId).getRevisionId()).isEqualTo(patchedRevisionId);
+                    Assertions.assertThat(definition.getQuestionCount()).isEqualTo(3);
+                }));
+        Assertions.assertThat(afterPatch.count()).as("%s", afterPatch).isZero();
+    }
+
+    @DisplayName("서베이 정의 캐시 조회는 적중/미스가 캐시 지표에 기록된다.")
+    @Test
+    void findDefinitionRecordsCacheStatistics() {
+        String surveyId = surveyService.createSurvey(surveyRequest).getSurveyId();
+        double misses = definitionCacheGets("miss");
+        double hits = definitionCacheGets("hit");
+
+        surveyRepository.findDefinitionById(surveyId);
+        surveyRepository.findDefinitionById(surveyId);
+
+        Assertions.assertThat(definitionCacheGets("miss")).isEqualTo(misses + 1);
+        Assertions.assertThat(definitionCacheGets("hit")).isEqualTo(hits + 1);
+    }
+
+    @DisplayName("캐시 미스 시 호출 측 트랜잭션에 수정 전 서베이가 로드되어 있어도 새 트랜잭션에서 최신 정의를 읽어 게시한다.")
+    @Test
+    void findDefinitionLoadsLatestSurveyOutsideCallerTransaction() {
+        SurveyCreateResponse createdSurvey = surveyService.createSurvey(createRequestWithQuestions(3));
+        String surveyId = createdSurvey.getSurveyId();
+        Long questionId = createdSurvey.getQuestions().get(1).getQuestionId();
+
+        SurveyDefinition loaded = transactionTemplate.execute(status -> {
+            // 호출 측 영속성 컨텍스트에 수정 전 서베이와 질문 revision 을 로드
+            SurveyDefinition.from(surveyRepository.findById(surveyId));
+
+            // 다른 트랜잭션에서 수정을 커밋하고, 게시된 정의를 비워 캐시 미스를 만듦
+            CompletableFuture.runAsync(() -> surveyService.updateSurvey(
+                    optionUpdateRequest(surveyId, questionId, List.of(new SurveyQuestionOptionRequest("changed option"))))).join();
+            Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.SURVEY_DEFINITION_CACHE)).evict(surveyId);
+
+            return surveyRepository.findDefinitionById(surveyId);
+        });
+
+        Assertions.assertThat(loaded.getVersion()).isEqualTo(createdSurvey.getVersion() + 1);
+        Assertions.assertThat(loaded.getQuestion(questionId).getOptions()).containsExactly("changed option");
+        Assertions.assertThat(surveyRepository.findPublishedDefinition(surveyId)).isSameAs(loaded);
+    }
+
+    @DisplayName("설정된 최대 질문 수(기본 1,000개)까지 생성할 수 있고, 초과하면 생성할 수 없다.")
+    @Test
+    void createSurveyUpToMaximumQuestionCount() {
+        SurveyCreateResponse created = surveyService.createSurvey(createRequestWithQuestions(SurveyValidator.DEFAULT_MAXIMUM_QUESTION_COUNT));
+
+        Assertions.assertThat(created.getQuestions()).hasSize(SurveyValidator.DEFAULT_MAXIMUM_QUESTION_COUNT);
+        Assertions.assertThatThrownBy(() -> surveyService.createSurvey(createRequestWithQuestions(SurveyValidator.DEFAULT_MAXIMUM_QUESTION_COUNT + 1)))
+                .isInstanceOf(SurveyCreationException.class)
+                .hasMessageContaining(ServiceError.CREATION_INSUFFICIENT_QUESTIONS.getMessage());
+    }
+
+    @DisplayName("한 번의 수정 요청으로 여러 질문을 삭제하고 남은 질문을 수정할 수 있다.")
+    @Transactional
+    @Test
+    void updateProcessWithMultipleDeletes() {
+        SurveyCreateResponse createdSurvey = surveyService.createSurvey(createRequestWithQuestions(5));
+        List<Long> questionIds = surveyJpaRepository.findById(createdSurvey.getSurveyId()).get().getQuestions().stream()
+                .map(SurveyQuestion::getId)
+                .toList();
+
+        SurveyUpdateRequest updateRequest = SurveyUpdateRequest.builder()
+                .id(createdSurvey.getSurveyId())
+                .name("test changed")
+                .description("changed description")
+                .questions(List.of(
+                        SurveyQuestionRequest.builder().updateType(UpdateType.DELETE).questionId(questionIds.get(1)).build(),
+                        SurveyQuestionRequest.builder().updateType(UpdateType.DELETE).questionId(questionIds.get(3)).build(),
+                        SurveyQuestionRequest.builder()
+                                .updateType(UpdateType.MODIFY)
+                                .questionId(questionIds.get(4))
+                                .question("changed4")
+                                .description("changed4 description")
+                                .type(SurveyItemType.TEXT)
+                                .required(ItemRequired.OPTIONAL)
+                                .options(List.of())
+                                .build()
+                )).build();
+
+        surveyService.updateSurvey(updateRequest);
+
+        List<SurveyQuestion> updatedQuestions = surveyJpaRepository.findById(createdSurvey.getSurveyId()).get().getQuestions();
+        Assertions.assertThat(updatedQuestions).extracting(SurveyQuestion::getId)
+                .containsExactly(questionIds.get(0), questionIds.get(2), questionIds.get(4));
+        Assertions.assertThat(updatedQuestions.get(2).getItemName()).isEqualTo("changed4");
+    }
+
+    private static SurveyCreateRequest createRequestWithQuestions(int questionCount) {
+        List<SurveyQuestionRequest> questions = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            questions.add(SurveyQuestionRequest.builder()
+                    .question("question" + i)
+                    .description("question" + i + " description")
+                    .type(SurveyItemType.SINGLE_SELECT)
+                    .required(ItemRequired.REQUIRED)
+                    .options(List.of(
+                            new SurveyQuestionOptionRequest("option1"),
+                            new SurveyQuestionOptionRequest("option2")
+                    )).build());
+        }
+        return SurveyCreateRequest.builder()
+                .name("test")
+                .description("survey description")
+                .questions(questions)
+                .build();
+    }
+
     @Transactional
     @Test
     void updateProcessTest() {
@@ -0,0 +1,140 @@
+package net.gentledot.survey.service;
+
+import net.gentledot.survey.application.service.SurveyAnswerService;
+import net.gentledot.survey.application.service.SurveyStatisticsService;
+import net.gentledot.survey.application.service.in.model.request.SubmitSurveyAnswer;
+import net.gentledot.survey.application.service.in.model.response.SurveyOptionStatisticResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyQuestionStatisticResponse;
+import net.gentledot.survey.application.service.in.model.response.SurveyStatisticsResponse;
+import net.gentledot.survey.domain.enums.ItemRequired;
+import net.gentledot.survey.domain.enums.SurveyItemType;
+import net.gentledot.survey.domain.exception.SurveyNotFoundException;
+import net.gentledot.survey.domain.exception.SurveySubmitValidationException;
+import net.gentledot.survey.domain.surveybase.Survey;
+import net.gentledot.survey.domain.surveybase.SurveyQuestion;
+import net.gentledot.survey.domain.surveybase.SurveyQuestionOption;
+import net.gentledot.survey.domain.surveybase.dto.SurveyQuestionOptionDto;
+import net.gentledot.survey.infra.repository.jpa.SurveyJpaRepository;
+import net.gentledot.survey.infra.repository.jpa.SurveyOptionStatisticJpaRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 주기적인 DB 반영이 검증 도중 끼어들지 않도록 반영 주기를 길게 설정
+@SpringBootTest(properties = "survey.statistics.flush-interval-ms=3600000")
+class SurveyStatisticsServiceProcessTest {
+
+    @Autowired
+    SurveyStatisticsService surveyStatisticsService;
+
+    @Autowired
+    SurveyAnswerService surveyAnswerService;
+
+    @Autowired
+    SurveyJpaRepository surveyJpaRepository;
+
+    @Autowired
+    SurveyOptionStatisticJpaRepository optionStatisticJpaRepository;
+
+    private Survey survey;
+
+    @BeforeEach
+    void setUp() {
+        survey = surveyJpaRepository.save(createSurvey());
+    }
+
+    private Survey createSurvey() {
+        List<SurveyQuestionOption> options = new ArrayList<>();
+        options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("Option 1")));
+        options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("Option 2")));
+        options.add(SurveyQuestionOption.from(new SurveyQuestionOptionDto("Option 3")));
+        List<SurveyQuestion> questions = new ArrayList<>();
+        questions.add(SurveyQuestion.of("Question 1", "Description 1", SurveyItemType.MULTI_SELECT, ItemRequired.REQUIRED, options));
+        questions.add(SurveyQuestion.of("Question 2", "Description 2", SurveyItemType.TEXT, ItemRequired.OPTIONAL, null));
+        return Survey.of("Survey 1", "Description 1", questions);
+    }
+
+    @DisplayName("응답 제출 시 선택한 옵션의 횟수가 집계되고, DB 반영 전후 모두 동일하게 조회된다.")
+    @Test
+    void countSelectedOptions() {
+        submit(List.of("Option 1", "Option 2"));
+        submit(List.of("Option 2"));
+        submit(List.of("Option 2", "Option 3"));
+
+        SurveyStatisticsResponse beforeFlush = surveyStatisticsService.getStatistics(survey.getId());
+        assertOptionCounts(beforeFlush);
+
+        surveyStatisticsService.flushPendingCounts();
+
+        Assertions.assertThat(optionStatisticJpaRepository.findAllBySurveyIdOrderByQuestionIdAscIdAsc(survey.getId()))
+                .hasSize(3);
+        SurveyStatisticsResponse afterFlush = surveyStatisticsService.getStatistics(survey.getId());
+        assertOptionCounts(afterFlush);
+    }
+
+    @DisplayName("제출된 응답 수는 DB 반영 시 서베이 응답 수 컬럼에 더해지고(버전 변경 없음), 반영 전에는 반영되지 않은 증가분으로 조회된다.")
+    @Test
+    void countAnswersIntoSurveyAnswerCount() {
+        submit(List.of("Option 1"));
+        submit(List.of("Option 2"));
+
+        Assertions.assertThat(surveyStatisticsService.getPendingAnswerCount(survey.getId())).isEqualTo(2);
+        Assertions.assertThat(surveyJpaRepository.findById(survey.getId()).get().getAnswerCount()).isZero();
+
+        surveyStatisticsService.flushPendingCounts();
+
+        Survey flushed = surveyJpaRepository.findById(survey.getId()).get();
+        Assertions.assertThat(surveyStatisticsService.getPendingAnswerCount(survey.getId())).isZero();
+        Assertions.assertThat(surveyStatisticsService.getPendingSurveyCount()).isZero();
+        Assertions.assertThat(flushed.getAnswerCount()).isEqualTo(2);
+        Assertions.assertThat(flushed.getVersion()).isEqualTo(survey.getVersion());
+    }
+
+    @DisplayName("검증에 실패한 응답은 통계에 포함되지 않는다.")
+    @Test
+    void rejectedSubmissionIsNotCounted() {
+        submit(List.of("Option 1"));
+
+        Assertions.assertThatThrownBy(() -> submit(List.of("Unknown Option")))
+                .isInstanceOf(SurveySubmitValidationException.class);
+
+        SurveyStatisticsResponse statistics = surveyStatisticsService.getStatistics(survey.getId());
+        Assertions.assertThat(statistics.questions()).hasSize(1);
+        Assertions.assertThat(statistics.questions().getFirst().options())
+                .extracting(SurveyOptionStatisticResponse::option, SurveyOptionStatisticResponse::count)
+                .containsExactly(Assertions.tuple("Option 1", 1L));
+    }
+
+    @Test
+    void failTest_getStatisticsWithInvalidSurveyId() {
+        Assertions.assertThatThrownBy(() -> surveyStatisticsService.getStatistics("invalid-id"))
+                .isInstanceOf(SurveyNotFoundException.class);
+    }
+
+    private void submit(List<String> selectedOptions) {
+        List<SubmitSurveyAnswer> answers = new ArrayList<>();
+        answers.add(new SubmitSurveyAnswer(survey.getQuestions().get(0).getId(), selectedOptions));
+        answers.add(new SubmitSurveyAnswer(survey.getQuestions().get(1).getId(), List.of("text")));
+        surveyAnswerService.submitSurveyAnswer(survey.getId(), answers);
+    }
+
+    private void assertOptionCounts(SurveyStatisticsResponse statistics) {
+        Assertions.assertThat(statistics.surveyId()).isEqualTo(survey.getId());
+        Assertions.assertThat(statistics.questions()).hasSize(1);
+
+        SurveyQuestionStatisticResponse questionStatistic = statistics.questions().getFirst();
+        Assertions.assertThat(questionStatistic.questionId()).isEqualTo(survey.getQuestions().get(0).getId());
+        Assertions.assertThat(questionStatistic.options())
+                .extracting(SurveyOptionStatisticResponse::option, SurveyOptionStatisticResponse::count)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple("Option 1", 1L),
+                        Assertions.tuple("Option 2", 3L),
+                        Assertions.tuple("Option 3", 1L));
+    }
+}